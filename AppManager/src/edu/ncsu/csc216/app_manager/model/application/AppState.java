@@ -4,14 +4,18 @@ import edu.ncsu.csc216.app_manager.model.command.Command;
 
 /**
  * Interface for application states in the application management system.
+ * States hold no per-application data: each is a single shared instance that is
+ * given the application to act on, so an Application only stores a reference to
+ * its current state.
  */
 public interface AppState {
     /**
      * Updates the state based on the given command.
+     * @param application The application in this state.
      * @param command The command to process.
      * @throws UnsupportedOperationException if the command is invalid for the current state.
      */
-    void updateState(Command command);
+    void updateState(Application application, Command command);
 
     /**
      * Gets the name of the current state.
@@ -0,0 +1,165 @@
+package edu.ncsu.csc216.app_manager.model.application;
+
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+
+/**
+ * Transition table of the application FSM, indexed by state ordinal and command
+ * ordinal. It is built from the states' declarations and checked once, when the
+ * class is loaded, so a command is applied with two array loads and no dispatch
+ * on the state's class.
+ */
+final class AppStateMachine {
+    /** Ordinal of the Review state */
+    static final int REVIEW = 0;
+    /** Ordinal of the Interview state */
+    static final int INTERVIEW = 1;
+    /** Ordinal of the Waitlist state */
+    static final int WAITLIST = 2;
+    /** Ordinal of the RefCheck state */
+    static final int REFCHK = 3;
+    /** Ordinal of the Offer state */
+    static final int OFFER = 4;
+    /** Ordinal of the Closed state */
+    static final int CLOSED = 5;
+
+    /** States by ordinal */
+    private static final TableState[] STATES = { ReviewState.INSTANCE, InterviewState.INSTANCE,
+        WaitlistState.INSTANCE, RefChkState.INSTANCE, OfferState.INSTANCE, ClosedState.INSTANCE };
+    /** Transitions by state ordinal and command ordinal; null where a command is invalid */
+    private static final Transition[][] TABLE = buildTable();
+
+    /**
+     * Not instantiated.
+     */
+    private AppStateMachine() {
+    }
+
+    /**
+     * Applies a command to an application.
+     *
+     * @param application The application.
+     * @param state       The ordinal of the state the command is applied in.
+     * @param command     The command.
+     * @throws UnsupportedOperationException if the command is invalid in the state.
+     */
+    static void update(Application application, int state, Command command) {
+        Transition transition = transition(state, command);
+        apply(application, transition, command);
+        TransitionCounts.recordTransition(state, transition.command, transition.targetOrdinal);
+    }
+
+    /**
+     * Applies a command to a copy of an application, without counting the
+     * transition, since the command has not been executed on the application yet.
+     *
+     * @param copy    The copy.
+     * @param state   The ordinal of the state the command is applied in.
+     * @param command The command.
+     * @throws UnsupportedOperationException if the command is invalid in the state.
+     */
+    static void preview(Application copy, int state, Command command) {
+        apply(copy, transition(state, command), command);
+    }
+
+    /**
+     * Looks up the transition a command takes from a state, counting a rejection
+     * if there is none.
+     *
+     * @param state   The ordinal of the state.
+     * @param command The command.
+     * @return The transition.
+     * @throws UnsupportedOperationException if the command is invalid in the state.
+     */
+    private static Transition transition(int state, Command command) {
+        Transition transition = TABLE[state][command.getCommand().ordinal()];
+        if (transition == null) {
+            TransitionCounts.recordRejection(state, command.getCommand());
+            throw new UnsupportedOperationException(STATES[state].invalidCommandMessage);
+        }
+        if (transition.requiredResolution != null && command.getResolution() != transition.requiredResolution) {
+            TransitionCounts.recordRejection(state, command.getCommand());
+            throw new UnsupportedOperationException(transition.resolutionMessage);
+        }
+        return transition;
+    }
+
+    /**
+     * Moves an application along a transition.
+     *
+     * @param application The application.
+     * @param transition  The transition.
+     * @param command     The command taking it.
+     */
+    private static void apply(Application application, Transition transition, Command command) {
+        if (transition.assignsReviewer) {
+            application.setReviewer(command.getReviewerId());
+        }
+        if (transition.processesPaperwork) {
+            application.setProcessPaperwork(true);
+        }
+        application.setState(transition.target);
+        application.addStampedNote(transition.notePrefix + command.getNote());
+    }
+
+    /**
+     * Gets the name of a state.
+     *
+     * @param state The ordinal of the state.
+     * @return The name.
+     */
+    static String stateName(int state) {
+        return STATES[state].getStateName();
+    }
+
+    /**
+     * Gets a state by name.
+     *
+     * @param name The name of the state.
+     * @return The state, or null if there is none by that name.
+     */
+    static AppState stateNamed(String name) {
+        for (TableState state : STATES) {
+            if (state.getStateName().equals(name)) {
+                return state;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Builds the table from the states' declarations, checking that each state sits
+     * at its ordinal, names are distinct, targets exist and no state declares two
+     * transitions for one command.
+     *
+     * @return The table.
+     * @throws IllegalStateException if a declaration is inconsistent.
+     */
+    private static Transition[][] buildTable() {
+        int commands = CommandValue.values().length;
+        Transition[][] table = new Transition[STATES.length][commands];
+        for (int i = 0; i < STATES.length; i++) {
+            TableState state = STATES[i];
+            if (state.ordinal != i || stateNamed(state.getStateName()) != state) {
+                throw new IllegalStateException("State " + state.getStateName() + " is declared inconsistently.");
+            }
+            for (Transition transition : state.transitions) {
+                if (transition.targetOrdinal < 0 || transition.targetOrdinal >= STATES.length) {
+                    throw new IllegalStateException("Unknown target of " + transition.command
+                            + " in " + state.getStateName() + ".");
+                }
+                if (table[i][transition.command.ordinal()] != null) {
+                    throw new IllegalStateException("Duplicate transition for " + transition.command
+                            + " in " + state.getStateName() + ".");
+                }
+                if (transition.requiredResolution != null && transition.resolutionMessage == null) {
+                    throw new IllegalStateException("Missing message for " + transition.command
+                            + " in " + state.getStateName() + ".");
+                }
+                transition.resolve(state, STATES);
+                table[i][transition.command.ordinal()] = transition;
+            }
+        }
+        return table;
+    }
+}
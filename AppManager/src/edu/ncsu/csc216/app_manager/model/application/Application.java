@@ -1,7 +1,12 @@
 package edu.ncsu.csc216.app_manager.model.application;
 
 import edu.ncsu.csc216.app_manager.model.command.Command;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Represents an application managed in the system with state transitions.
@@ -25,23 +30,27 @@ public class Application {
         NEW, OLD, HIRED
     }
 
+    // Most distinct reviewers shared between applications
+    private static final int DICTIONARY_CAPACITY = 4096;
+    // Shared instances of repeated reviewer ids
+    private static final StringDictionary REVIEWERS = new StringDictionary(DICTIONARY_CAPACITY);
+    // Tag prefixes of notes, such as "[Review] [Accepted] "
+    private static final StringDictionary NOTE_PREFIXES = new StringDictionary(EncodedNoteList.MAX_PREFIXES);
+    // Arena new applications keep their notes in, or null to keep them on the heap
+    private static volatile NotesArena notesArena;
+
     // Application fields
     private int appId;
     private String summary;
     private String reviewer;
     private boolean processPaperwork;
-    private ArrayList<String> notes;
-    private AppState currentState;
+    private List<String> notes;
+    // Rendered notes, dropped by addNote and by the collector when memory is short; guarded by this
+    private SoftReference<String> notesString;
+    // Volatile so listings that run beside commands see each transition
+    private volatile AppState currentState;
     private AppType appType;
 
-    // Final instances of all states
-    private final AppState reviewState;
-    private final AppState interviewState;
-    private final AppState waitlistState;
-    private final AppState refChkState;
-    private final AppState offerState;
-    private final AppState closedState;
-
     /**
      * Constructor to create a new Application.
      * 
@@ -52,27 +61,20 @@ public class Application {
      * @throws IllegalArgumentException if parameters are invalid.
      */
     public Application(int id, AppType appType, String summary, String note) {
-        if (id < 1 || summary == null || summary.isEmpty() || note == null || note.isEmpty()) {
+        if (id < 1 || appType == null || summary == null || summary.isEmpty() || note == null || note.isEmpty()) {
             throw new IllegalArgumentException("Application cannot be created.");
         }
 
         this.appId = id;
+        this.appType = appType;
         this.summary = summary;
-        this.notes = new ArrayList<>();
+        this.notes = newNoteList(Collections.emptyList());
         this.notes.add(note);
         this.processPaperwork = false;
         this.reviewer = null;
 
-        // Initialize state instances
-        this.reviewState = new ReviewState(this);
-        this.interviewState = new InterviewState(this);
-        this.waitlistState = new WaitlistState(this);
-        this.refChkState = new RefChkState(this);
-        this.offerState = new OfferState(this);
-        this.closedState = new ClosedState(this);
-
         // Set initial state
-        this.currentState = reviewState;
+        this.currentState = ReviewState.INSTANCE;
     }
 
     /**
@@ -96,24 +98,53 @@ public class Application {
     			throw new IllegalArgumentException("Application cannot be created.");
     		}
     		this.appId = id;
+    		this.appType = toAppType(appType);
     		this.summary = summary;
-    		this.reviewer = reviewer;
+    		this.reviewer = REVIEWERS.intern(reviewer);
     		this.processPaperwork = processPaperwork;
-    		this.notes = notes;
-
-    		// Initialize state instances
-    		this.reviewState = new ReviewState(this);
-    		this.interviewState = new InterviewState(this);
-    		this.waitlistState = new WaitlistState(this);
-    		this.refChkState = new RefChkState(this);
-    		this.offerState = new OfferState(this);
-    		this.closedState = new ClosedState(this);
+    		this.notes = newNoteList(notes);
 
     		// Set the initial state using the provided state name
     		setState(state);
     }
 
 
+    /**
+     * Creates the list a new application keeps its notes in: one in the notes arena
+     * if there is one, otherwise a heap list with note prefixes dictionary encoded.
+     * 
+     * @param initialNotes The notes to copy into the list.
+     * @return The list.
+     */
+    private static List<String> newNoteList(Collection<String> initialNotes) {
+        NotesArena arena = notesArena;
+        if (arena != null) {
+            return new NotesArena.NoteList(arena, initialNotes);
+        }
+        return new EncodedNoteList(NOTE_PREFIXES, initialNotes);
+    }
+
+    /**
+     * Sets the arena that applications created from now on keep their notes in.
+     * Their notes are then held off the Java heap, with only a handle per note on
+     * it; reading and adding notes work the same either way. Applications that
+     * already exist keep their notes where they are.
+     * 
+     * @param arena The arena, or null to keep the notes of new applications on the heap.
+     */
+    public static void setNotesArena(NotesArena arena) {
+        notesArena = arena;
+    }
+
+    /**
+     * Gets the arena new applications keep their notes in.
+     * 
+     * @return The arena, or null if notes are kept on the heap.
+     */
+    public static NotesArena getNotesArena() {
+        return notesArena;
+    }
+
     /**
      * Sets the current state of the application based on the state name.
      * 
@@ -121,39 +152,77 @@ public class Application {
      * @throws IllegalArgumentException if the state name is invalid.
      */
     public void setState(String state) {
-        switch (state) {
-            case REVIEW_NAME:
-                this.currentState = reviewState;
-                break;
-            case INTERVIEW_NAME:
-                this.currentState = interviewState;
-                break;
-            case WAITLIST_NAME:
-                this.currentState = waitlistState;
-                break;
-            case REFCHK_NAME:
-                this.currentState = refChkState;
-                break;
-            case OFFER_NAME:
-                this.currentState = offerState;
-                break;
-            case CLOSED_NAME:
-                this.currentState = closedState;
-                break;
-            default:
-                throw new IllegalArgumentException("Invalid state name: " + state);
+        AppState named = AppStateMachine.stateNamed(state);
+        if (named == null) {
+            throw new IllegalArgumentException("Invalid state name: " + state);
         }
+        this.currentState = named;
     }
 
     
 	/**
-     * Updates the state of the application based on the given command.
+     * Updates the state of the application based on the given command. Each
+     * transition is reported to Flight Recorder when a recording enables it.
      * 
      * @param command The command to process.
      * @throws UnsupportedOperationException if the command is invalid for the current state.
      */
     public void update(Command command) {
-        currentState.updateState(command);
+        TransitionEvent event = new TransitionEvent();
+        event.begin();
+        AppState state = currentState;
+        if (state instanceof TableState) {
+            AppStateMachine.update(this, ((TableState) state).ordinal, command);
+        } else {
+            state.updateState(this, command);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.appId = appId;
+            event.command = command.getCommand().name();
+            event.fromState = state.getStateName();
+            event.toState = currentState.getStateName();
+            event.commit();
+        }
+    }
+
+    /**
+     * Works out what this application would become if a command were executed on
+     * it, without changing it. Executing the command afterwards, with nothing else
+     * changing the application in between, gives the same result. A write-ahead
+     * journal can so record the outcome of a command before it takes effect.
+     * 
+     * @param command The command.
+     * @return A copy of this application with the command applied.
+     * @throws UnsupportedOperationException if the command is invalid in the current state.
+     */
+    public Application preview(Command command) {
+        Application next = new Application(this);
+        AppState state = next.currentState;
+        if (state instanceof TableState) {
+            AppStateMachine.preview(next, ((TableState) state).ordinal, command);
+        } else {
+            state.updateState(next, command);
+        }
+        return next;
+    }
+
+    /**
+     * Copies an application. The copy keeps its notes on the heap, whichever
+     * arena the original uses.
+     * 
+     * @param other The application to copy.
+     */
+    private Application(Application other) {
+        synchronized (other) {
+            this.notes = new EncodedNoteList(NOTE_PREFIXES, other.notes);
+        }
+        this.appId = other.appId;
+        this.appType = other.appType;
+        this.summary = other.summary;
+        this.reviewer = other.reviewer;
+        this.processPaperwork = other.processPaperwork;
+        this.currentState = other.currentState;
     }
 
     /**
@@ -165,7 +234,17 @@ public class Application {
         if (note == null || note.isEmpty()) {
             throw new IllegalArgumentException("Note cannot be empty.");
         }
-        notes.add("[" + currentState.getStateName() + "] " + note);
+        addStampedNote("[" + currentState.getStateName() + "] " + note);
+    }
+
+    /**
+     * Adds a note that already carries its state stamp.
+     * 
+     * @param stamped The note, starting with the state name in brackets.
+     */
+    synchronized void addStampedNote(String stamped) {
+        notes.add(stamped);
+        notesString = null;
     }
 
     /**
@@ -201,7 +280,7 @@ public class Application {
      * @param reviewer The reviewer ID.
      */
     public void setReviewer(String reviewer) {
-        this.reviewer = reviewer;
+        this.reviewer = REVIEWERS.intern(reviewer);
     }
 
     /**
@@ -232,16 +311,131 @@ public class Application {
     }
 
     /**
-     * Gets the list of notes as a single formatted string.
+     * Gets the notes of the application, oldest first.
+     * 
+     * @return An unmodifiable view of the notes.
+     */
+    public List<String> getNotes() {
+        return Collections.unmodifiableList(notes);
+    }
+
+    /**
+     * Gets the list of notes as a single formatted string. The string is built on
+     * the first call and reused until a note is added. It is only softly held, so
+     * the notes of applications shown once, such as those held off the heap, do not
+     * stay copied on the heap when memory runs short.
      * 
      * @return The notes string.
      */
-    public String getNotesString() {
-        StringBuilder notesString = new StringBuilder();
-        for (String note : notes) {
-            notesString.append("- ").append(note).append("\n");
+    public synchronized String getNotesString() {
+        String rendered = notesString == null ? null : notesString.get();
+        if (rendered == null) {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < notes.size(); i++) {
+                text.append("- ").append(notes.get(i)).append('\n');
+            }
+            rendered = text.toString();
+            notesString = new SoftReference<>(rendered);
+        }
+        return rendered;
+    }
+
+    /**
+     * Writes the notes, formatted as by getNotesString, to an Appendable. If the
+     * notes string has not been built, the notes are written one by one rather than
+     * building it.
+     * 
+     * @param out The Appendable to write to.
+     * @throws IOException if out fails.
+     */
+    public synchronized void appendNotesTo(Appendable out) throws IOException {
+        String rendered = notesString == null ? null : notesString.get();
+        if (rendered != null) {
+            out.append(rendered);
+            return;
+        }
+        appendNotesTo(out, "- ");
+    }
+
+    /**
+     * Writes each note on a line of its own after a marker, such as "-" in the data
+     * file format. Notes kept on the heap are written as their prefix and text,
+     * so no String is built for them. Holds this application's monitor, so notes
+     * added meanwhile are either written whole or not at all.
+     * 
+     * @param out    The Appendable to write to.
+     * @param marker The text written at the start of each line.
+     * @throws IOException if out fails.
+     */
+    public synchronized void appendNotesTo(Appendable out, String marker) throws IOException {
+        appendNotesTo(out, marker, "");
+    }
+
+    /**
+     * Writes each note after a marker as appendNotesTo(out, marker) does, putting
+     * a backslash before each line inside a note that begins with one of the
+     * reserved characters, so that it cannot be taken for a marker.
+     * 
+     * @param out      The Appendable to write to.
+     * @param marker   The text written at the start of each line.
+     * @param reserved The characters escaped at the start of a line inside a note.
+     * @throws IOException if out fails.
+     */
+    public synchronized void appendNotesTo(Appendable out, String marker, String reserved) throws IOException {
+        for (int i = 0; i < notes.size(); i++) {
+            out.append(marker);
+            if (notes instanceof EncodedNoteList) {
+                EncodedNoteList encoded = (EncodedNoteList) notes;
+                String prefix = encoded.prefix(i);
+                boolean lineStart = prefix != null && appendLines(out, prefix, false, reserved);
+                appendLines(out, encoded.body(i), lineStart, reserved);
+            } else {
+                appendLines(out, notes.get(i), false, reserved);
+            }
+            out.append('\n');
+        }
+    }
+
+    /**
+     * Writes a single note the way appendNotesTo(out, marker, reserved) writes each
+     * note of an application, for writers of notes that are not held by one.
+     * 
+     * @param out      The Appendable to write to.
+     * @param marker   The text written at the start of the line.
+     * @param note     The note.
+     * @param reserved The characters escaped at the start of a line inside the note.
+     * @throws IOException if out fails.
+     */
+    public static void appendNote(Appendable out, String marker, String note, String reserved) throws IOException {
+        out.append(marker);
+        appendLines(out, note, false, reserved);
+        out.append('\n');
+    }
+
+    /**
+     * Writes text, putting a backslash before each line that begins with one of the
+     * reserved characters. Text with no such line is written in one piece.
+     * 
+     * @param out       The Appendable to write to.
+     * @param text      The text to write.
+     * @param lineStart Whether the text starts a line.
+     * @param reserved  The characters escaped at the start of a line.
+     * @return Whether the text ends with a line break.
+     * @throws IOException if out fails.
+     */
+    private static boolean appendLines(Appendable out, String text, boolean lineStart, String reserved)
+            throws IOException {
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (lineStart && reserved.indexOf(c) >= 0) {
+                out.append(text, start, i).append('\\');
+                start = i;
+            }
+            lineStart = c == '\n' || c == '\r';
         }
-        return notesString.toString();
+        out.append(start == 0 ? text : text.substring(start));
+        return lineStart;
     }
 
     /**
@@ -259,7 +453,7 @@ public class Application {
      * @return The ReviewState.
      */
     public AppState getReviewState() {
-        return reviewState;
+        return ReviewState.INSTANCE;
     }
 
     /**
@@ -268,7 +462,7 @@ public class Application {
      * @return The InterviewState.
      */
     public AppState getInterviewState() {
-        return interviewState;
+        return InterviewState.INSTANCE;
     }
 
     /**
@@ -277,7 +471,7 @@ public class Application {
      * @return The WaitlistState.
      */
     public AppState getWaitlistState() {
-        return waitlistState;
+        return WaitlistState.INSTANCE;
     }
 
     /**
@@ -286,7 +480,7 @@ public class Application {
      * @return The RefChkState.
      */
     public AppState getRefChkState() {
-        return refChkState;
+        return RefChkState.INSTANCE;
     }
 
     /**
@@ -295,7 +489,7 @@ public class Application {
      * @return The OfferState.
      */
     public AppState getOfferState() {
-        return offerState;
+        return OfferState.INSTANCE;
     }
 
     /**
@@ -304,7 +498,7 @@ public class Application {
      * @return The ClosedState.
      */
     public AppState getClosedState() {
-        return closedState;
+        return ClosedState.INSTANCE;
     }
 
     /**
@@ -314,7 +508,13 @@ public class Application {
      */
     @Override
     public String toString() {
-        return String.format("* %d\n%s\n%s", appId, summary, getNotesString());
+        StringBuilder result = new StringBuilder("* ").append(appId).append('\n').append(summary).append('\n');
+        try {
+            appendNotesTo(result);
+        } catch (IOException e) {
+            // A StringBuilder never fails
+        }
+        return result.toString();
     }
 
     /**
@@ -323,7 +523,51 @@ public class Application {
      * @return The string representation of the application type.
      */
     public String getAppType() {
-        return appType.name();
+        return getAppTypeName(appType);
+    }
+
+    /**
+     * Gets the application type.
+     * 
+     * @return The application type.
+     */
+    public AppType getType() {
+        return appType;
+    }
+
+    /**
+     * Gets the name an application type is shown and saved with.
+     * 
+     * @param appType The application type.
+     * @return One of A_NEW, A_OLD or A_HIRED.
+     */
+    public static String getAppTypeName(AppType appType) {
+        switch (appType) {
+            case NEW:
+                return A_NEW;
+            case OLD:
+                return A_OLD;
+            default:
+                return A_HIRED;
+        }
+    }
+
+    /**
+     * Converts a saved application type name to its AppType.
+     * 
+     * @param appType One of A_NEW, A_OLD or A_HIRED.
+     * @return The matching AppType.
+     * @throws IllegalArgumentException if the name is not a valid application type.
+     */
+    private static AppType toAppType(String appType) {
+        if (A_NEW.equals(appType)) {
+            return AppType.NEW;
+        } else if (A_OLD.equals(appType)) {
+            return AppType.OLD;
+        } else if (A_HIRED.equals(appType)) {
+            return AppType.HIRED;
+        }
+        throw new IllegalArgumentException("Application cannot be created.");
     }
     
     /**
@@ -1,53 +1,23 @@
 package edu.ncsu.csc216.app_manager.model.application;
 
-import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
 
 /**
- * Represents the Closed state of an application.
+ * Represents the Closed state of an application. Reopening with a completed
+ * review moves it back to Review.
  */
-public class ClosedState implements AppState {
+public class ClosedState extends TableState {
 
-    /** Reference to the associated Application */
-    private Application application;
+    /** The single, shared instance */
+    public static final ClosedState INSTANCE = new ClosedState();
 
     /**
-     * Constructor for ClosedState.
-     * 
-     * @param application The application associated with this state.
+     * Constructor for ClosedState; use INSTANCE.
      */
-    public ClosedState(Application application) {
-        this.application = application;
-    }
-
-    /**
-     * Updates the state based on the given command.
-     * 
-     * @param command The command to process.
-     * @throws UnsupportedOperationException if the command is invalid for the current state.
-     */
-    @Override
-    public void updateState(Command command) {
-        if (command.getCommand() == Command.CommandValue.REOPEN) {
-            // Check if the command has a valid resolution to reopen the application
-            if (command.getResolution() == Command.Resolution.REVCOMPLETED) {
-                // Transition from New application to Old and switch to Review State
-                application.setState(application.getReviewState());
-                application.addNote("[Reopened] " + command.getNote());
-            } else {
-                throw new UnsupportedOperationException("Cannot reopen application with the given resolution.");
-            }
-        } else {
-            throw new UnsupportedOperationException("Invalid command for Closed state.");
-        }
-    }
-
-    /**
-     * Gets the name of the current state.
-     * 
-     * @return The name of the state.
-     */
-    @Override
-    public String getStateName() {
-        return Application.CLOSED_NAME;
+    private ClosedState() {
+        super(AppStateMachine.CLOSED, Application.CLOSED_NAME, "Invalid command for Closed state.",
+                Transition.on(CommandValue.REOPEN, AppStateMachine.REVIEW).tagged("[Reopened] ")
+                        .requiring(Resolution.REVCOMPLETED, "Cannot reopen application with the given resolution."));
     }
 }
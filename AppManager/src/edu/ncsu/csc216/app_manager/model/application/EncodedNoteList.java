@@ -0,0 +1,159 @@
+package edu.ncsu.csc216.app_manager.model.application;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * List of notes with their tag prefixes, such as "[Interview] [Accepted] ",
+ * dictionary encoded. Each note is held as a one-byte code of its prefix and the
+ * text after it, so the few distinct prefixes are stored once rather than in every
+ * note. The codes of the first eight notes share one long; only longer histories
+ * need a separate array. Getting a note joins its prefix back on. Notes can be
+ * added but not changed or removed.
+ */
+class EncodedNoteList extends AbstractList<String> implements RandomAccess {
+    /** Most prefix codes a dictionary may hand out, so code + 1 fits in a byte */
+    static final int MAX_PREFIXES = 255;
+    /** Most tags taken as a prefix */
+    private static final int MAX_TAGS = 2;
+    /** Longest tag, brackets included, taken as part of a prefix */
+    private static final int MAX_TAG_LENGTH = 24;
+    /** Number of codes held in inlineCodes */
+    private static final int INLINE_CODES = 8;
+
+    /** Dictionary of prefixes */
+    private final StringDictionary prefixes;
+    /** Text of each note after its prefix */
+    private String[] bodies;
+    /** Prefix codes plus one of the first notes, a byte each; 0 for no prefix */
+    private long inlineCodes;
+    /** Prefix codes plus one of the notes after the first INLINE_CODES, or null */
+    private byte[] moreCodes;
+    /** Number of notes */
+    private int size;
+
+    /**
+     * Constructs a list holding the given notes.
+     *
+     * @param prefixes The dictionary to encode prefixes with; at most MAX_PREFIXES codes.
+     * @param notes    The initial notes.
+     */
+    EncodedNoteList(StringDictionary prefixes, Collection<String> notes) {
+        this.prefixes = prefixes;
+        this.bodies = new String[Math.max(notes.size(), 1)];
+        for (String note : notes) {
+            add(note);
+        }
+    }
+
+    @Override
+    public String get(int index) {
+        int code = code(index);
+        return code == 0 ? bodies[index] : prefixes.decode(code - 1).concat(bodies[index]);
+    }
+
+    /**
+     * Writes a note as its prefix followed by its text, without joining them.
+     *
+     * @param index The index of the note.
+     * @param out   The Appendable to write to.
+     * @throws IOException if out fails.
+     */
+    void appendTo(int index, Appendable out) throws IOException {
+        int code = code(index);
+        if (code != 0) {
+            out.append(prefixes.decode(code - 1));
+        }
+        out.append(bodies[index]);
+    }
+
+    /**
+     * Gets the prefix of a note, which get would join onto its text.
+     *
+     * @param index The index of the note.
+     * @return The shared prefix, or null if the note has none.
+     * @throws IndexOutOfBoundsException if there is no note at the index.
+     */
+    String prefix(int index) {
+        int code = code(index);
+        return code == 0 ? null : prefixes.decode(code - 1);
+    }
+
+    /**
+     * Gets the text of a note after its prefix.
+     *
+     * @param index The index of the note.
+     * @return The text.
+     * @throws IndexOutOfBoundsException if there is no note at the index.
+     */
+    String body(int index) {
+        Objects.checkIndex(index, size);
+        return bodies[index];
+    }
+
+    @Override
+    public boolean add(String note) {
+        int length = prefixLength(note);
+        int code = length == 0 ? StringDictionary.NO_CODE : prefixes.encode(note, 0, length);
+        String body = code == StringDictionary.NO_CODE ? note : note.substring(length);
+        if (size == bodies.length) {
+            bodies = Arrays.copyOf(bodies, size + (size >> 1) + 1);
+        }
+        bodies[size] = body;
+        if (size < INLINE_CODES) {
+            inlineCodes |= (long) (code + 1) << (size * 8);
+        } else {
+            int index = size - INLINE_CODES;
+            if (moreCodes == null || index == moreCodes.length) {
+                moreCodes = moreCodes == null ? new byte[INLINE_CODES] : Arrays.copyOf(moreCodes, index * 2);
+            }
+            moreCodes[index] = (byte) (code + 1);
+        }
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the prefix code plus one of a note.
+     *
+     * @param index The index of the note.
+     * @return The code plus one, or 0 if the note has no prefix.
+     * @throws IndexOutOfBoundsException if there is no note at the index.
+     */
+    private int code(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " of " + size);
+        }
+        return index < INLINE_CODES ? (int) (inlineCodes >>> (index * 8)) & 0xFF
+                : moreCodes[index - INLINE_CODES] & 0xFF;
+    }
+
+    /**
+     * Measures the prefix of a note: up to MAX_TAGS leading tags of the form
+     * "[text] ".
+     *
+     * @param note The note.
+     * @return The length of the prefix, or 0 if the note has none.
+     */
+    static int prefixLength(String note) {
+        int end = 0;
+        for (int tags = 0; tags < MAX_TAGS && end < note.length() && note.charAt(end) == '['; tags++) {
+            int close = note.indexOf("] ", end);
+            if (close < 0 || close + 2 - end > MAX_TAG_LENGTH) {
+                break;
+            }
+            end = close + 2;
+        }
+        return end;
+    }
+}
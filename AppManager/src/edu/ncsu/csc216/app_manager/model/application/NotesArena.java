@@ -0,0 +1,153 @@
+package edu.ncsu.csc216.app_manager.model.application;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Append-only store for note text outside the Java heap. Notes are written as a
+ * length followed by their UTF-8 bytes into direct ByteBuffer chunks, and each is
+ * identified by a long handle holding its chunk and offset. The garbage collector
+ * never scans or copies the text; applications keep only an array of handles.
+ * <p>
+ * Space is never reclaimed: notes of deleted applications stay in the arena until
+ * the arena itself is dropped, which frees every chunk. Appends are synchronized;
+ * reads need no lock, as written bytes never change.
+ */
+public class NotesArena {
+    /** Default size of each chunk */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+    /** Bytes taken by the length before each note */
+    private static final int LENGTH_BYTES = 4;
+
+    /** Size of each chunk, except those made for a single larger note */
+    private final int chunkSize;
+    /** Chunks in allocation order; replaced, never changed, when a chunk is added */
+    private volatile ByteBuffer[] chunks = new ByteBuffer[0];
+    /** Offset of the next note in the last chunk */
+    private int offset;
+    /** Total bytes written */
+    private long used;
+
+    /**
+     * Constructs an arena with the default chunk size.
+     */
+    public NotesArena() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs an arena.
+     *
+     * @param chunkSize Size of each direct buffer to allocate.
+     * @throws IllegalArgumentException if chunkSize is smaller than 16 bytes.
+     */
+    public NotesArena(int chunkSize) {
+        if (chunkSize < 16) {
+            throw new IllegalArgumentException("Chunk size is too small.");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Appends a note.
+     *
+     * @param note The note text.
+     * @return The handle to read the note back with.
+     */
+    public synchronized long append(String note) {
+        byte[] bytes = note.getBytes(StandardCharsets.UTF_8);
+        int needed = LENGTH_BYTES + bytes.length;
+        ByteBuffer[] current = chunks;
+        if (current.length == 0 || current[current.length - 1].capacity() - offset < needed) {
+            current = Arrays.copyOf(current, current.length + 1);
+            current[current.length - 1] = ByteBuffer.allocateDirect(Math.max(chunkSize, needed));
+            offset = 0;
+        }
+        int chunk = current.length - 1;
+        ByteBuffer buffer = current[chunk];
+        buffer.putInt(offset, bytes.length);
+        buffer.put(offset + LENGTH_BYTES, bytes);
+        long handle = ((long) chunk << 32) | offset;
+        offset += needed;
+        used += needed;
+        chunks = current;
+        return handle;
+    }
+
+    /**
+     * Reads a note back.
+     *
+     * @param handle The handle returned by append.
+     * @return The note text.
+     */
+    public String read(long handle) {
+        ByteBuffer buffer = chunks[(int) (handle >>> 32)];
+        int position = (int) handle;
+        byte[] bytes = new byte[buffer.getInt(position)];
+        buffer.get(position + LENGTH_BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the number of bytes written, including length prefixes.
+     *
+     * @return The bytes used.
+     */
+    public synchronized long getUsedBytes() {
+        return used;
+    }
+
+    /**
+     * List of notes held in an arena. Only the handles live on the heap; each get
+     * decodes its note from the arena. Notes can be added but not changed or removed.
+     */
+    static class NoteList extends AbstractList<String> implements RandomAccess {
+        /** Arena holding the text */
+        private final NotesArena arena;
+        /** Handles of the notes, oldest first */
+        private long[] handles;
+        /** Number of notes */
+        private int size;
+
+        /**
+         * Constructs a list holding copies of the given notes.
+         *
+         * @param arena The arena to store notes in.
+         * @param notes The initial notes.
+         */
+        NoteList(NotesArena arena, Iterable<String> notes) {
+            this.arena = arena;
+            this.handles = new long[4];
+            for (String note : notes) {
+                add(note);
+            }
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " of " + size);
+            }
+            return arena.read(handles[index]);
+        }
+
+        @Override
+        public boolean add(String note) {
+            long handle = arena.append(note);
+            if (size == handles.length) {
+                handles = Arrays.copyOf(handles, size * 2);
+            }
+            handles[size++] = handle;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
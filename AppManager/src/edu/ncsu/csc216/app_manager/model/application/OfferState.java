@@ -1,58 +1,24 @@
 package edu.ncsu.csc216.app_manager.model.application;
 
-import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
 
 /**
- * Represents the Offer state of an application.
- * The Offer state manages the transition to Closed state based on ACCEPT or REJECT commands.
+ * Represents the Offer state of an application. Accepting assigns the reviewer
+ * and processes the paperwork; both accepting and rejecting close the application,
+ * with the note stamped as written in Offer.
  */
-public class OfferState implements AppState {
+public class OfferState extends TableState {
 
-    /** Reference to the associated Application */
-    private Application application;
+    /** The single, shared instance */
+    public static final OfferState INSTANCE = new OfferState();
 
     /**
-     * Constructor for OfferState.
-     * 
-     * @param application The application associated with this state.
+     * Constructor for OfferState; use INSTANCE.
      */
-    public OfferState(Application application) {
-        this.application = application;
-    }
-
-    /**
-     * Updates the state based on the given command.
-     * 
-     * @param command The command to process.
-     * @throws UnsupportedOperationException if the command is invalid for the current state.
-     */
-    @Override
-    public void updateState(Command command) {
-        switch (command.getCommand()) {
-            case ACCEPT:
-                application.setReviewer(command.getReviewerId());
-                application.setProcessPaperwork(true); // Paperwork is processed on acceptance
-                application.addNote(command.getNote());
-                application.setState(application.getClosedState());
-                break;
-
-            case REJECT:
-                application.addNote(command.getNote());
-                application.setState(application.getClosedState());
-                break;
-
-            default:
-                throw new UnsupportedOperationException("Invalid command for Offer state.");
-        }
-    }
-
-    /**
-     * Gets the name of the current state.
-     * 
-     * @return The name of the state.
-     */
-    @Override
-    public String getStateName() {
-        return Application.OFFER_NAME;
+    private OfferState() {
+        super(AppStateMachine.OFFER, Application.OFFER_NAME, "Invalid command for Offer state.",
+                Transition.on(CommandValue.ACCEPT, AppStateMachine.CLOSED).assigningReviewer().processingPaperwork()
+                        .notingBeforeMove(),
+                Transition.on(CommandValue.REJECT, AppStateMachine.CLOSED).notingBeforeMove());
     }
 }
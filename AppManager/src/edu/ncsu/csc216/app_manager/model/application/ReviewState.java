@@ -1,56 +1,22 @@
 package edu.ncsu.csc216.app_manager.model.application;
 
-import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
 
 /**
- * Represents the Review state of an application.
+ * Represents the Review state of an application. Accepting assigns the reviewer
+ * and moves to Interview; rejecting closes the application.
  */
-public class ReviewState implements AppState {
+public class ReviewState extends TableState {
 
-    /** Reference to the associated Application */
-    private Application application;
+    /** The single, shared instance */
+    public static final ReviewState INSTANCE = new ReviewState();
 
     /**
-     * Constructor for ReviewState.
-     * 
-     * @param application The application associated with this state.
+     * Constructor for ReviewState; use INSTANCE.
      */
-    public ReviewState(Application application) {
-        this.application = application;
-    }
-
-    /**
-     * Updates the state based on the given command.
-     * 
-     * @param command The command to process.
-     * @throws UnsupportedOperationException if the command is invalid for the current state.
-     */
-    @Override
-    public void updateState(Command command) {
-        switch (command.getCommand()) {
-            case ACCEPT:
-                application.setReviewer(command.getReviewerId());
-                application.setState(application.getInterviewState());
-                application.addNote("[Accepted] " + command.getNote());
-                break;
-
-            case REJECT:
-                application.setState(application.getClosedState());
-                application.addNote("[Rejected] " + command.getNote());
-                break;
-
-            default:
-                throw new UnsupportedOperationException("Invalid command for Review state.");
-        }
-    }
-
-    /**
-     * Gets the name of the current state.
-     * 
-     * @return The name of the state.
-     */
-    @Override
-    public String getStateName() {
-        return Application.REVIEW_NAME;
+    private ReviewState() {
+        super(AppStateMachine.REVIEW, Application.REVIEW_NAME, "Invalid command for Review state.",
+                Transition.on(CommandValue.ACCEPT, AppStateMachine.INTERVIEW).assigningReviewer().tagged("[Accepted] "),
+                Transition.on(CommandValue.REJECT, AppStateMachine.CLOSED).tagged("[Rejected] "));
     }
 }
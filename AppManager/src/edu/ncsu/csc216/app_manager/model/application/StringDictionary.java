@@ -0,0 +1,212 @@
+package edu.ncsu.csc216.app_manager.model.application;
+
+import java.util.Arrays;
+
+/**
+ * Dictionary of repeated strings, each given a small code and one shared instance.
+ * Values are found in an open-addressing table of codes without locking, and can be
+ * looked up by a range of a longer string without cutting it out first, so parsers
+ * on several threads can encode at once without allocating for values already
+ * present. The dictionary holds at most a fixed number of values; once full, new
+ * values are left unencoded rather than growing it without bound. Values are never
+ * removed.
+ * <p>
+ * Lookups read the table without synchronization and may miss a value that another
+ * thread is adding; they then repeat the search under the lock.
+ */
+public class StringDictionary {
+    /** Returned by encode for a value that did not fit */
+    public static final int NO_CODE = -1;
+
+    /** Maximum number of values */
+    private final int capacity;
+    /** Values by code; written before any slot refers to them */
+    private volatile String[] values = new String[16];
+    /** Open-addressing table of code + 1 by value hash; 0 marks an empty slot */
+    private volatile int[] slots = new int[32];
+    /** Number of values; guarded by this */
+    private int size;
+
+    /**
+     * Constructs an empty dictionary.
+     *
+     * @param capacity Maximum number of values to hold.
+     * @throws IllegalArgumentException if capacity is not positive.
+     */
+    public StringDictionary(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets the code of a value, adding the value if it is new and there is room.
+     *
+     * @param value The value to encode.
+     * @return The code, from 0 to capacity - 1, or NO_CODE if the dictionary is full.
+     */
+    public int encode(String value) {
+        return encode(value, 0, value.length());
+    }
+
+    /**
+     * Gets the code of the value source.substring(start, end), adding it if it is
+     * new and there is room. The substring is only created when it is added.
+     *
+     * @param source The string holding the value.
+     * @param start  Index of the first char of the value.
+     * @param end    Index after the last char of the value.
+     * @return The code, from 0 to capacity - 1, or NO_CODE if the dictionary is full.
+     */
+    public int encode(String source, int start, int end) {
+        int hash = hash(source, start, end);
+        int code = find(slots, values, hash, source, start, end);
+        if (code != NO_CODE) {
+            return code;
+        }
+        synchronized (this) {
+            int[] table = slots;
+            code = find(table, values, hash, source, start, end);
+            if (code != NO_CODE || size == capacity) {
+                return code;
+            }
+            String[] current = values;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, Math.min(capacity, size * 2));
+            }
+            current[size] = source.substring(start, end);
+            values = current;
+            if ((size + 1) * 2 > table.length) {
+                table = rehash(current, size, table.length * 2);
+            }
+            insert(table, hash, size + 1);
+            slots = table;
+            return size++;
+        }
+    }
+
+    /**
+     * Gets the value of a code.
+     *
+     * @param code A code returned by encode.
+     * @return The shared instance of the value.
+     */
+    public String decode(int code) {
+        return values[code];
+    }
+
+    /**
+     * Gets the shared instance of a value, adding it if there is room.
+     *
+     * @param value The value, or null.
+     * @return The shared instance, or value itself if it is null or did not fit.
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        int code = encode(value);
+        return code == NO_CODE ? value : decode(code);
+    }
+
+    /**
+     * Gets the number of values held.
+     *
+     * @return The number of values.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Searches a table for a value. A slot whose value is not yet visible ends the
+     * search as a miss.
+     *
+     * @param table  The slots to search.
+     * @param known  The values the slots refer to.
+     * @param hash   The hash of the value.
+     * @param source The string holding the value.
+     * @param start  Index of the first char of the value.
+     * @param end    Index after the last char of the value.
+     * @return The code, or NO_CODE if the value was not found.
+     */
+    private static int find(int[] table, String[] known, int hash, String source, int start, int end) {
+        int mask = table.length - 1;
+        int length = end - start;
+        for (int i = spread(hash) & mask;; i = (i + 1) & mask) {
+            int slot = table[i];
+            if (slot == 0 || slot > known.length || known[slot - 1] == null) {
+                return NO_CODE;
+            }
+            String candidate = known[slot - 1];
+            if (candidate.length() == length && source.startsWith(candidate, start)) {
+                return slot - 1;
+            }
+        }
+    }
+
+    /**
+     * Builds a larger table holding the first values.
+     *
+     * @param known  The values.
+     * @param count  Number of values to hold.
+     * @param length Length of the new table, a power of two.
+     * @return The new table.
+     */
+    private static int[] rehash(String[] known, int count, int length) {
+        int[] table = new int[length];
+        for (int code = 0; code < count; code++) {
+            insert(table, hash(known[code], 0, known[code].length()), code + 1);
+        }
+        return table;
+    }
+
+    /**
+     * Puts a slot in the first free place for its hash.
+     *
+     * @param table The slots.
+     * @param hash  The hash of the value.
+     * @param slot  The code of the value plus one.
+     */
+    private static void insert(int[] table, int hash, int slot) {
+        int mask = table.length - 1;
+        int i = spread(hash) & mask;
+        while (table[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        table[i] = slot;
+    }
+
+    /**
+     * Hashes a range of chars as String.hashCode does, using the cached hash of a
+     * whole string.
+     *
+     * @param source The string.
+     * @param start  Index of the first char.
+     * @param end    Index after the last char.
+     * @return The hash.
+     */
+    private static int hash(String source, int start, int end) {
+        if (start == 0 && end == source.length()) {
+            return source.hashCode();
+        }
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + source.charAt(i);
+        }
+        return hash;
+    }
+
+    /**
+     * Scrambles a hash so values that differ only in their last char, whose String
+     * hashes are consecutive, do not land in one run of slots.
+     *
+     * @param hash The hash.
+     * @return The scrambled hash.
+     */
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
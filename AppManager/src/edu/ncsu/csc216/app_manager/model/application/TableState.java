@@ -0,0 +1,55 @@
+package edu.ncsu.csc216.app_manager.model.application;
+
+import edu.ncsu.csc216.app_manager.model.command.Command;
+
+/**
+ * Base of the application states. A state only declares its name and transitions;
+ * AppStateMachine gathers the declarations into one table and applies commands.
+ */
+abstract class TableState implements AppState {
+    /** Row of the state in the transition table */
+    final int ordinal;
+    /** Name of the state */
+    private final String name;
+    /** Message when a command has no transition from this state */
+    final String invalidCommandMessage;
+    /** Transitions out of this state */
+    final Transition[] transitions;
+
+    /**
+     * Constructs a state.
+     *
+     * @param ordinal               The state's ordinal, one of the AppStateMachine constants.
+     * @param name                  The state's name.
+     * @param invalidCommandMessage The message when a command has no transition.
+     * @param transitions           The transitions out of the state.
+     */
+    TableState(int ordinal, String name, String invalidCommandMessage, Transition... transitions) {
+        this.ordinal = ordinal;
+        this.name = name;
+        this.invalidCommandMessage = invalidCommandMessage;
+        this.transitions = transitions;
+    }
+
+    /**
+     * Updates the application as the transition table says for this state.
+     *
+     * @param application The application in this state.
+     * @param command     The command to process.
+     * @throws UnsupportedOperationException if the command is invalid for this state.
+     */
+    @Override
+    public final void updateState(Application application, Command command) {
+        AppStateMachine.update(application, ordinal, command);
+    }
+
+    /**
+     * Gets the name of the state.
+     *
+     * @return The name of the state.
+     */
+    @Override
+    public final String getStateName() {
+        return name;
+    }
+}
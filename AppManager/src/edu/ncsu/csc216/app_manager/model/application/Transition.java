@@ -0,0 +1,122 @@
+package edu.ncsu.csc216.app_manager.model.application;
+
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
+
+/**
+ * What a command does to an application in one state: the state it moves to, the
+ * tag put on its note and the fields it sets. States declare their transitions
+ * with on(...) and the chained methods; AppStateMachine then fills in the target
+ * state and the full note prefix once, when it builds its table.
+ */
+final class Transition {
+    /** Command that triggers the transition */
+    final CommandValue command;
+    /** Ordinal of the state moved to */
+    final int targetOrdinal;
+    /** Tag written after the state name on the note, such as "[Accepted] " */
+    private String tag = "";
+    /** Whether the command's reviewer id becomes the application's reviewer */
+    boolean assignsReviewer;
+    /** Whether the paperwork is marked processed */
+    boolean processesPaperwork;
+    /** Whether the note is stamped with the state left rather than the state entered */
+    private boolean notesBeforeMove;
+    /** Resolution the command must carry, or null for any */
+    Resolution requiredResolution;
+    /** Message when the command lacks the required resolution */
+    String resolutionMessage;
+
+    /** State moved to; set by AppStateMachine */
+    AppState target;
+    /** State name and tag put in front of the command's note; set by AppStateMachine */
+    String notePrefix;
+
+    /**
+     * Constructs a transition with no tag or side effects.
+     *
+     * @param command       The command that triggers it.
+     * @param targetOrdinal The ordinal of the state moved to.
+     */
+    private Transition(CommandValue command, int targetOrdinal) {
+        this.command = command;
+        this.targetOrdinal = targetOrdinal;
+    }
+
+    /**
+     * Starts declaring a transition.
+     *
+     * @param command       The command that triggers it.
+     * @param targetOrdinal The ordinal of the state moved to, one of the AppStateMachine constants.
+     * @return The transition.
+     */
+    static Transition on(CommandValue command, int targetOrdinal) {
+        return new Transition(command, targetOrdinal);
+    }
+
+    /**
+     * Tags the note.
+     *
+     * @param noteTag The tag, such as "[Accepted] ".
+     * @return This transition.
+     */
+    Transition tagged(String noteTag) {
+        this.tag = noteTag;
+        return this;
+    }
+
+    /**
+     * Makes the command's reviewer id the application's reviewer.
+     *
+     * @return This transition.
+     */
+    Transition assigningReviewer() {
+        this.assignsReviewer = true;
+        return this;
+    }
+
+    /**
+     * Marks the paperwork processed.
+     *
+     * @return This transition.
+     */
+    Transition processingPaperwork() {
+        this.processesPaperwork = true;
+        return this;
+    }
+
+    /**
+     * Stamps the note with the state left instead of the state entered.
+     *
+     * @return This transition.
+     */
+    Transition notingBeforeMove() {
+        this.notesBeforeMove = true;
+        return this;
+    }
+
+    /**
+     * Accepts only commands that carry the given resolution.
+     *
+     * @param resolution The resolution the command must carry.
+     * @param message    The message of the exception thrown otherwise.
+     * @return This transition.
+     */
+    Transition requiring(Resolution resolution, String message) {
+        this.requiredResolution = resolution;
+        this.resolutionMessage = message;
+        return this;
+    }
+
+    /**
+     * Fills in the target state and note prefix.
+     *
+     * @param source The state the transition leaves.
+     * @param states The states by ordinal.
+     */
+    void resolve(AppState source, AppState[] states) {
+        this.target = states[targetOrdinal];
+        AppState stamp = notesBeforeMove ? source : target;
+        this.notePrefix = "[" + stamp.getStateName() + "] " + tag;
+    }
+}
@@ -0,0 +1,174 @@
+package edu.ncsu.csc216.app_manager.model.application;
+
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts of the commands applied by the FSM since startup or the last reset: how
+ * often each command moved an application from one state to another, and how often
+ * each state rejected each command. Counters are striped, so applications updated
+ * on many threads do not contend on them.
+ */
+public final class TransitionCounts {
+    /** Number of states */
+    private static final int STATES = AppStateMachine.CLOSED + 1;
+    /** Number of commands */
+    private static final int COMMANDS = CommandValue.values().length;
+
+    /** Transitions by (from * COMMANDS + command) * STATES + to */
+    private static final LongAdder[] TRANSITIONS = adders(STATES * COMMANDS * STATES);
+    /** Rejections by from * COMMANDS + command */
+    private static final LongAdder[] REJECTIONS = adders(STATES * COMMANDS);
+    /** Whether commands are counted */
+    private static volatile boolean enabled = true;
+
+    /**
+     * Not instantiated.
+     */
+    private TransitionCounts() {
+    }
+
+    /**
+     * Counts a command that moved an application.
+     *
+     * @param from    Ordinal of the state left.
+     * @param command The command.
+     * @param to      Ordinal of the state entered.
+     */
+    static void recordTransition(int from, CommandValue command, int to) {
+        if (enabled) {
+            TRANSITIONS[(from * COMMANDS + command.ordinal()) * STATES + to].increment();
+        }
+    }
+
+    /**
+     * Counts a command a state rejected.
+     *
+     * @param from    Ordinal of the state.
+     * @param command The command.
+     */
+    static void recordRejection(int from, CommandValue command) {
+        if (enabled) {
+            REJECTIONS[from * COMMANDS + command.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Turns counting on or off. Counts already taken are kept.
+     *
+     * @param on True to count commands.
+     */
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    /**
+     * Gets how often a command moved an application between two states.
+     *
+     * @param from    Name of the state left.
+     * @param command The command.
+     * @param to      Name of the state entered.
+     * @return The count.
+     * @throws IllegalArgumentException if a state name is unknown.
+     */
+    public static long getTransitions(String from, CommandValue command, String to) {
+        return TRANSITIONS[(ordinal(from) * COMMANDS + command.ordinal()) * STATES + ordinal(to)].sum();
+    }
+
+    /**
+     * Gets how often a state rejected a command.
+     *
+     * @param from    Name of the state.
+     * @param command The command.
+     * @return The count.
+     * @throws IllegalArgumentException if the state name is unknown.
+     */
+    public static long getRejections(String from, CommandValue command) {
+        return REJECTIONS[ordinal(from) * COMMANDS + command.ordinal()].sum();
+    }
+
+    /**
+     * Gets every transition that has happened, keyed "from COMMAND to", such as
+     * "Review ACCEPT Interview", in state and command order.
+     *
+     * @return The non-zero counts.
+     */
+    public static Map<String, Long> getTransitions() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int from = 0; from < STATES; from++) {
+            for (CommandValue command : CommandValue.values()) {
+                for (int to = 0; to < STATES; to++) {
+                    long count = TRANSITIONS[(from * COMMANDS + command.ordinal()) * STATES + to].sum();
+                    if (count != 0) {
+                        counts.put(AppStateMachine.stateName(from) + " " + command + " "
+                                + AppStateMachine.stateName(to), count);
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Gets every rejection that has happened, keyed "state COMMAND", such as
+     * "Closed ACCEPT", in state and command order.
+     *
+     * @return The non-zero counts.
+     */
+    public static Map<String, Long> getRejections() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int from = 0; from < STATES; from++) {
+            for (CommandValue command : CommandValue.values()) {
+                long count = REJECTIONS[from * COMMANDS + command.ordinal()].sum();
+                if (count != 0) {
+                    counts.put(AppStateMachine.stateName(from) + " " + command, count);
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Sets every count back to 0.
+     */
+    public static void reset() {
+        for (LongAdder adder : TRANSITIONS) {
+            adder.reset();
+        }
+        for (LongAdder adder : REJECTIONS) {
+            adder.reset();
+        }
+    }
+
+    /**
+     * Gets the ordinal of a state.
+     *
+     * @param name The name of the state.
+     * @return The ordinal.
+     * @throws IllegalArgumentException if the name is unknown.
+     */
+    private static int ordinal(String name) {
+        AppState state = AppStateMachine.stateNamed(name);
+        if (!(state instanceof TableState)) {
+            throw new IllegalArgumentException("Invalid state name: " + name);
+        }
+        return ((TableState) state).ordinal;
+    }
+
+    /**
+     * Creates counters.
+     *
+     * @param count The number of counters.
+     * @return The counters, all 0.
+     */
+    private static LongAdder[] adders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
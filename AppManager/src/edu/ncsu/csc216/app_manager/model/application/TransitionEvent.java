@@ -0,0 +1,37 @@
+package edu.ncsu.csc216.app_manager.model.application;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one command applied to an application. Commands are
+ * frequent, so the event is off unless a recording's settings turn it on.
+ */
+@Name("edu.ncsu.csc216.app_manager.Transition")
+@Label("Application Transition")
+@Category({ "App Manager", "Transitions" })
+@Description("A command moving an application from one state to another")
+@Enabled(false)
+@StackTrace(false)
+final class TransitionEvent extends Event {
+    /** Id of the application */
+    @Label("Application Id")
+    int appId;
+
+    /** Command applied */
+    @Label("Command")
+    String command;
+
+    /** State the application was in */
+    @Label("From State")
+    String fromState;
+
+    /** State the application moved to */
+    @Label("To State")
+    String toState;
+}
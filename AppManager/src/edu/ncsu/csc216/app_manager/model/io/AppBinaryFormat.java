@@ -0,0 +1,526 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary snapshot format for application lists. Fixed-width numbers are
+ * big-endian.
+ * <pre>
+ * header   magic "APPB" (4 bytes), version (2 bytes)
+ * record   id (4), state ordinal (1), type ordinal (1), processed (1),
+ *          summary, reviewer, note count (varint), notes
+ * ...
+ * table    offset of each record from the start of the file (8 each)
+ * trailer  record count (4), offset of the table (8)
+ * </pre>
+ * Strings are a varint of the UTF-8 length plus one, followed by the UTF-8 bytes;
+ * a varint of 0 stands for null. Varints are unsigned LEB128: 7 bits per byte, low
+ * bits first, high bit set on all but the last byte. State ordinals index
+ * STATE_NAMES and type ordinals are AppType ordinals; those lists may only be
+ * appended to without bumping VERSION. A text file can never start with the magic,
+ * as text records start with '*'. Snapshots are read into a single buffer, so they
+ * are limited to 2 GB.
+ */
+public class AppBinaryFormat {
+
+    /** First bytes of every binary snapshot */
+    private static final byte[] MAGIC = { 'A', 'P', 'P', 'B' };
+    /** Version written to new snapshots */
+    public static final short VERSION = 1;
+    /** State names by ordinal */
+    private static final String[] STATE_NAMES = { Application.REVIEW_NAME, Application.INTERVIEW_NAME,
+        Application.WAITLIST_NAME, Application.REFCHK_NAME, Application.OFFER_NAME, Application.CLOSED_NAME };
+    /** Length of the header in bytes */
+    private static final int HEADER_SIZE = MAGIC.length + 2;
+    /** Length of the trailer in bytes */
+    private static final int TRAILER_SIZE = 4 + 8;
+    /** Size of the write buffer */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Checks whether a file starts with the binary snapshot magic.
+     *
+     * @param filename The file to check.
+     * @return True if the file is a binary snapshot; false if it is not, or cannot be read.
+     */
+    public static boolean isBinary(String filename) {
+        try (InputStream in = new FileInputStream(filename)) {
+            byte[] start = new byte[MAGIC.length];
+            int read = in.readNBytes(start, 0, start.length);
+            if (read < MAGIC.length) {
+                return false;
+            }
+            for (int i = 0; i < MAGIC.length; i++) {
+                if (start[i] != MAGIC[i]) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes applications as a binary snapshot.
+     *
+     * @param out          The stream to write to; it is not closed.
+     * @param applications The applications to write.
+     * @throws IOException if the stream fails.
+     */
+    public static void write(OutputStream out, List<Application> applications) throws IOException {
+        Output data = new Output(out);
+        data.putBytes(MAGIC, MAGIC.length);
+        data.putShort(VERSION);
+        long[] offsets = new long[applications.size()];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = data.position();
+            writeRecord(data, applications.get(i));
+        }
+        long tableOffset = data.position();
+        for (long offset : offsets) {
+            data.putLong(offset);
+        }
+        data.putInt(offsets.length);
+        data.putLong(tableOffset);
+        data.flush();
+    }
+
+    /**
+     * Reads every application in a binary snapshot.
+     *
+     * @param filename The snapshot file.
+     * @return The applications, in the order they were written.
+     * @throws IllegalArgumentException if the file cannot be read or is not a valid snapshot.
+     */
+    public static List<Application> read(String filename) {
+        ByteBuffer data = open(filename, false);
+        int count = data.getInt(data.limit() - TRAILER_SIZE);
+        data.position(HEADER_SIZE);
+        List<Application> applications = new ArrayList<>(count);
+        byte[] scratch = new byte[256];
+        for (int i = 0; i < count; i++) {
+            applications.add(readRecord(data, scratch));
+        }
+        return applications;
+    }
+
+    /**
+     * Reads a single application using the record-offset table, without reading
+     * the records before it.
+     *
+     * @param filename The snapshot file.
+     * @param record   The index of the record.
+     * @return The application.
+     * @throws IllegalArgumentException if the file cannot be read or has no such record.
+     */
+    public static Application read(String filename, int record) {
+        ByteBuffer data = open(filename, true);
+        int count = data.getInt(data.limit() - TRAILER_SIZE);
+        long tableOffset = data.getLong(data.limit() - TRAILER_SIZE + 4);
+        if (record < 0 || record >= count) {
+            throw new IllegalArgumentException("Unable to load file.");
+        }
+        long offset = data.getLong((int) tableOffset + record * 8);
+        if (offset < HEADER_SIZE || offset >= tableOffset) {
+            throw new IllegalArgumentException("Unable to load file.");
+        }
+        data.position((int) offset);
+        return readRecord(data, new byte[256]);
+    }
+
+    /**
+     * Converts a text application file to a binary snapshot.
+     *
+     * @param textFile   The text file to read.
+     * @param binaryFile The snapshot file to write.
+     * @throws IllegalArgumentException if either file cannot be processed.
+     */
+    public static void convertToBinary(String textFile, String binaryFile) {
+        AppWriter.writeAppsToBinaryFileAtomically(binaryFile, AppReader.readAppsFromFile(textFile), false, 0);
+    }
+
+    /**
+     * Converts a binary snapshot to a text application file.
+     *
+     * @param binaryFile The snapshot file to read.
+     * @param textFile   The text file to write.
+     * @throws IllegalArgumentException if either file cannot be processed.
+     */
+    public static void convertToText(String binaryFile, String textFile) {
+        AppWriter.writeAppsToFileAtomically(textFile, read(binaryFile), false, 0);
+    }
+
+    /**
+     * Converts between the formats from the command line: a binary input file is
+     * written out as text and a text input file as binary.
+     *
+     * @param args The input file and the output file.
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: AppBinaryFormat <input file> <output file>");
+            System.exit(1);
+        }
+        if (isBinary(args[0])) {
+            convertToText(args[0], args[1]);
+        } else {
+            convertToBinary(args[0], args[1]);
+        }
+    }
+
+    /**
+     * Opens a snapshot and checks its header and trailer. A snapshot read whole is
+     * copied onto the heap, since every record is decoded anyway; a mapping would
+     * keep the file open, so a save could not replace it on Windows, until the
+     * buffer was collected. Reading a single record maps the file instead, so only
+     * the pages it touches are read.
+     *
+     * @param filename The snapshot file.
+     * @param mapped   True to map the file, false to read it into the heap.
+     * @return The file's contents.
+     * @throws IllegalArgumentException if the file cannot be read or is not a valid snapshot.
+     */
+    private static ByteBuffer open(String filename, boolean mapped) {
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + TRAILER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Unable to load file.");
+            }
+            ByteBuffer data = mapped ? channel.map(FileChannel.MapMode.READ_ONLY, 0, size)
+                    : readFully(channel, (int) size);
+            for (int i = 0; i < MAGIC.length; i++) {
+                if (data.get(i) != MAGIC[i]) {
+                    throw new IllegalArgumentException("Unable to load file.");
+                }
+            }
+            if (data.getShort(MAGIC.length) != VERSION) {
+                throw new IllegalArgumentException("Unable to load file.");
+            }
+            int count = data.getInt((int) size - TRAILER_SIZE);
+            long tableOffset = data.getLong((int) size - TRAILER_SIZE + 4);
+            if (count < 0 || tableOffset < HEADER_SIZE || tableOffset + (long) count * 8 + TRAILER_SIZE != size) {
+                throw new IllegalArgumentException("Unable to load file.");
+            }
+            return data;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to load file.", e);
+        }
+    }
+
+    /**
+     * Reads a whole file into a heap buffer.
+     *
+     * @param channel The open file.
+     * @param size    The size of the file.
+     * @return The contents, from position 0.
+     * @throws IOException if the file cannot be read or is shorter than size.
+     */
+    private static ByteBuffer readFully(FileChannel channel, int size) throws IOException {
+        ByteBuffer data = ByteBuffer.allocate(size);
+        while (data.hasRemaining()) {
+            if (channel.read(data) < 0) {
+                throw new IOException("File ended early.");
+            }
+        }
+        data.flip();
+        return data;
+    }
+
+    /**
+     * Writes one record.
+     *
+     * @param data The output to write to.
+     * @param app  The application to write.
+     * @throws IOException if the stream fails.
+     */
+    private static void writeRecord(Output data, Application app) throws IOException {
+        data.putInt(app.getAppId());
+        data.putByte(stateOrdinal(app.getStateName()));
+        data.putByte(typeOrdinal(app.getAppType()));
+        data.putByte(app.isProcessed() ? 1 : 0);
+        data.putString(app.getSummary());
+        data.putString(app.getReviewer());
+        List<String> notes = app.getNotes();
+        data.putVarint(notes.size());
+        for (int i = 0; i < notes.size(); i++) {
+            data.putString(notes.get(i));
+        }
+    }
+
+    /**
+     * Reads one record.
+     *
+     * @param data    The snapshot, positioned at the record.
+     * @param scratch Buffer for decoding strings; grown as needed.
+     * @return The application.
+     * @throws IllegalArgumentException if the record is invalid.
+     */
+    private static Application readRecord(ByteBuffer data, byte[] scratch) {
+        try {
+            int id = data.getInt();
+            String state = STATE_NAMES[data.get() & 0xFF];
+            String type = Application.getAppTypeName(AppType.values()[data.get() & 0xFF]);
+            boolean processed = data.get() != 0;
+            String summary = readString(data, scratch);
+            String reviewer = readString(data, scratch);
+            int noteCount = readVarint(data);
+            ArrayList<String> notes = new ArrayList<>(noteCount);
+            for (int i = 0; i < noteCount; i++) {
+                notes.add(readString(data, scratch));
+            }
+            return new Application(id, state, type, summary, reviewer, processed, null, notes);
+        } catch (ArrayIndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new IllegalArgumentException("Unable to load file.", e);
+        }
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string.
+     *
+     * @param data    The snapshot, positioned at the string.
+     * @param scratch Buffer the bytes are copied into before decoding.
+     * @return The string, or null.
+     * @throws IllegalArgumentException if the length runs past the end of the snapshot.
+     */
+    private static String readString(ByteBuffer data, byte[] scratch) {
+        int length = readVarint(data) - 1;
+        if (length < 0) {
+            return null;
+        } else if (length > data.remaining()) {
+            throw new IllegalArgumentException("Unable to load file.");
+        }
+        byte[] bytes = length <= scratch.length ? scratch : new byte[length];
+        data.get(bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads an unsigned LEB128 varint of at most 31 bits.
+     *
+     * @param data The snapshot, positioned at the varint.
+     * @return The value.
+     * @throws IllegalArgumentException if the varint is too long.
+     */
+    private static int readVarint(ByteBuffer data) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = data.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unable to load file.");
+    }
+
+    /**
+     * Gets the ordinal written for a state name.
+     *
+     * @param stateName The state name.
+     * @return The index of the name in STATE_NAMES.
+     */
+    private static int stateOrdinal(String stateName) {
+        for (int i = 0; i < STATE_NAMES.length; i++) {
+            if (STATE_NAMES[i].equals(stateName)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unable to save file.");
+    }
+
+    /**
+     * Gets the ordinal written for an application type name.
+     *
+     * @param typeName One of the type names in Application.
+     * @return The AppType ordinal.
+     */
+    private static int typeOrdinal(String typeName) {
+        for (AppType type : AppType.values()) {
+            if (Application.getAppTypeName(type).equals(typeName)) {
+                return type.ordinal();
+            }
+        }
+        throw new IllegalArgumentException("Unable to save file.");
+    }
+
+    /**
+     * Buffered output that encodes numbers and strings straight into one reused
+     * byte array and tracks how many bytes have been written.
+     */
+    private static class Output {
+        /** Stream the buffer is drained to */
+        private final OutputStream out;
+        /** Bytes not yet written to the stream */
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        /** Number of bytes in buffer */
+        private int count;
+        /** Number of bytes already written to the stream */
+        private long written;
+
+        /**
+         * Constructs an output over a stream.
+         *
+         * @param out The stream to write to.
+         */
+        Output(OutputStream out) {
+            this.out = out;
+        }
+
+        /**
+         * Gets the number of bytes written so far.
+         *
+         * @return The offset of the next byte.
+         */
+        long position() {
+            return written + count;
+        }
+
+        /**
+         * Writes a byte.
+         *
+         * @param value The byte, in the low 8 bits.
+         * @throws IOException if the stream fails.
+         */
+        void putByte(int value) throws IOException {
+            if (count == buffer.length) {
+                drain();
+            }
+            buffer[count++] = (byte) value;
+        }
+
+        /**
+         * Writes a big-endian short.
+         *
+         * @param value The value.
+         * @throws IOException if the stream fails.
+         */
+        void putShort(int value) throws IOException {
+            putByte(value >>> 8);
+            putByte(value);
+        }
+
+        /**
+         * Writes a big-endian int.
+         *
+         * @param value The value.
+         * @throws IOException if the stream fails.
+         */
+        void putInt(int value) throws IOException {
+            putByte(value >>> 24);
+            putByte(value >>> 16);
+            putByte(value >>> 8);
+            putByte(value);
+        }
+
+        /**
+         * Writes a big-endian long.
+         *
+         * @param value The value.
+         * @throws IOException if the stream fails.
+         */
+        void putLong(long value) throws IOException {
+            putInt((int) (value >>> 32));
+            putInt((int) value);
+        }
+
+        /**
+         * Writes an unsigned LEB128 varint.
+         *
+         * @param value The non-negative value.
+         * @throws IOException if the stream fails.
+         */
+        void putVarint(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                putByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            putByte(value);
+        }
+
+        /**
+         * Writes a length-prefixed UTF-8 string. ASCII strings are copied byte by
+         * byte without an intermediate array.
+         *
+         * @param value The string, or null.
+         * @throws IOException if the stream fails.
+         */
+        void putString(String value) throws IOException {
+            if (value == null) {
+                putVarint(0);
+                return;
+            }
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                if (value.charAt(i) >= 0x80) {
+                    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    putVarint(bytes.length + 1);
+                    putBytes(bytes, bytes.length);
+                    return;
+                }
+            }
+            putVarint(length + 1);
+            for (int i = 0; i < length; i++) {
+                putByte(value.charAt(i));
+            }
+        }
+
+        /**
+         * Writes bytes.
+         *
+         * @param bytes  The bytes to write.
+         * @param length The number of bytes to write from the start of the array.
+         * @throws IOException if the stream fails.
+         */
+        void putBytes(byte[] bytes, int length) throws IOException {
+            if (length > buffer.length - count) {
+                drain();
+                if (length > buffer.length) {
+                    out.write(bytes, 0, length);
+                    written += length;
+                    return;
+                }
+            }
+            System.arraycopy(bytes, 0, buffer, count, length);
+            count += length;
+        }
+
+        /**
+         * Writes out everything buffered.
+         *
+         * @throws IOException if the stream fails.
+         */
+        void flush() throws IOException {
+            drain();
+            out.flush();
+        }
+
+        /**
+         * Writes the buffer to the stream and empties it.
+         *
+         * @throws IOException if the stream fails.
+         */
+        private void drain() throws IOException {
+            out.write(buffer, 0, count);
+            written += count;
+            count = 0;
+        }
+    }
+}
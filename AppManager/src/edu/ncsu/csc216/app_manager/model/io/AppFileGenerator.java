@@ -0,0 +1,627 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates synthetic applications in the file format read by AppReader, for
+ * benchmarks and soak tests that need far more data than the handwritten test
+ * files. Each record follows a path through the FSM that ends in its state, so its
+ * type, reviewer, paperwork, resolution and note tags are consistent with how it
+ * got there. The mix of states and types, the number of notes and the shape of
+ * multi-line notes are configurable; the same seed and settings always give the
+ * same records. Records are written as they are generated, so files of millions of
+ * records need no more memory than one record.
+ * <p>
+ * Run from the command line with:
+ * AppFileGenerator &lt;output file&gt; &lt;count&gt; [--seed n] [--states r,i,w,c,o,x]
+ * [--types new,old,hired] [--notes min-max] [--note-lines min-max]
+ * [--line-length min-max] [--reviewers n]
+ */
+public class AppFileGenerator {
+
+    /** Ordinal of Review in STATES */
+    private static final int REVIEW = 0;
+    /** Ordinal of Interview in STATES */
+    private static final int INTERVIEW = 1;
+    /** Ordinal of Waitlist in STATES */
+    private static final int WAITLIST = 2;
+    /** Ordinal of RefCheck in STATES */
+    private static final int REFCHK = 3;
+    /** Ordinal of Offer in STATES */
+    private static final int OFFER = 4;
+    /** Ordinal of Closed in STATES */
+    private static final int CLOSED = 5;
+    /** State names by ordinal */
+    private static final String[] STATES = { Application.REVIEW_NAME, Application.INTERVIEW_NAME,
+        Application.WAITLIST_NAME, Application.REFCHK_NAME, Application.OFFER_NAME, Application.CLOSED_NAME };
+    /** Type names, in the order of the type weights */
+    private static final String[] TYPES = { Application.A_NEW, Application.A_OLD, Application.A_HIRED };
+    /** Index of New in TYPES */
+    private static final int NEW = 0;
+    /** Index of Old in TYPES */
+    private static final int OLD = 1;
+    /** Index of Hired in TYPES */
+    private static final int HIRED = 2;
+    /** States passed through on the way to Offer, in order */
+    private static final int[] PATH_TO_OFFER = { REVIEW, INTERVIEW, REFCHK, OFFER };
+    /** Resolution of a Closed application by the number of states it passed through */
+    private static final String[] CLOSED_RESOLUTIONS = { null, "ReviewCompleted", "InterviewCompleted",
+        "ReferenceCheckCompleted", "OfferCompleted" };
+    /** Words notes and summaries are made of; none starts with a file format marker */
+    private static final String[] WORDS = { "candidate", "interview", "reference", "offer", "resume",
+        "review", "panel", "schedule", "confirmed", "pending", "strong", "background", "experience",
+        "team", "manager", "salary", "start", "date", "remote", "onsite", "followup", "email", "call",
+        "notes", "feedback", "technical", "skills", "communication", "agreed", "declined", "relocation",
+        "visa", "transcript", "portfolio", "project", "lead", "senior", "junior", "contract", "offered",
+        "signed", "checked", "waiting", "on", "the", "and", "for", "with", "after", "before", "week",
+        "next", "second", "round", "hiring", "committee", "approved", "requested", "documents", "sent",
+        "received", "by", "to", "of" };
+
+    /** Seed of the random numbers */
+    private final long seed;
+    /** Cumulative weights of the states */
+    private double[] stateWeights = cumulative(new double[] { 30, 20, 10, 10, 10, 20 });
+    /** Cumulative weights of the types */
+    private double[] typeWeights = cumulative(new double[] { 40, 55, 5 });
+    /** Fewest notes per application */
+    private int minNotes = 1;
+    /** Most notes per application */
+    private int maxNotes = 6;
+    /** Fewest lines per note */
+    private int minNoteLines = 1;
+    /** Most lines per note */
+    private int maxNoteLines = 2;
+    /** Shortest line of a note, in chars */
+    private int minLineLength = 20;
+    /** Longest line of a note, in chars */
+    private int maxLineLength = 80;
+    /** Number of distinct reviewers */
+    private int reviewers = 50;
+
+    /**
+     * Constructs a generator with the default settings: mostly Review, Interview
+     * and Closed applications, one to six notes of one or two lines each and fifty
+     * reviewers.
+     *
+     * @param seed The seed of the random numbers.
+     */
+    public AppFileGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets how often each state occurs.
+     *
+     * @param weights Relative weights of Review, Interview, Waitlist, RefCheck, Offer and Closed.
+     * @return This generator.
+     * @throws IllegalArgumentException if there are not six weights, one is negative or all are 0.
+     */
+    public AppFileGenerator stateWeights(double... weights) {
+        this.stateWeights = cumulative(checkWeights(weights, STATES.length));
+        return this;
+    }
+
+    /**
+     * Sets how often each type occurs. A type the state of an application does not
+     * allow is replaced by Old: New applications can only be in Review, Waitlist or
+     * Closed after review, and only Closed applications can be Hired.
+     *
+     * @param weights Relative weights of New, Old and Hired.
+     * @return This generator.
+     * @throws IllegalArgumentException if there are not three weights, one is negative or all are 0.
+     */
+    public AppFileGenerator typeWeights(double... weights) {
+        this.typeWeights = cumulative(checkWeights(weights, TYPES.length));
+        return this;
+    }
+
+    /**
+     * Sets the number of notes per application, drawn uniformly from a range.
+     *
+     * @param min The fewest notes.
+     * @param max The most notes.
+     * @return This generator.
+     * @throws IllegalArgumentException if min is less than 1 or greater than max.
+     */
+    public AppFileGenerator notes(int min, int max) {
+        checkRange(min, max, 1);
+        this.minNotes = min;
+        this.maxNotes = max;
+        return this;
+    }
+
+    /**
+     * Sets the number of lines per note, drawn uniformly from a range.
+     *
+     * @param min The fewest lines.
+     * @param max The most lines.
+     * @return This generator.
+     * @throws IllegalArgumentException if min is less than 1 or greater than max.
+     */
+    public AppFileGenerator noteLines(int min, int max) {
+        checkRange(min, max, 1);
+        this.minNoteLines = min;
+        this.maxNoteLines = max;
+        return this;
+    }
+
+    /**
+     * Sets the length of each line of a note, drawn uniformly from a range. Lines
+     * end at a word, so may run a word past the drawn length.
+     *
+     * @param min The shortest line, in chars.
+     * @param max The longest line, in chars.
+     * @return This generator.
+     * @throws IllegalArgumentException if min is less than 1 or greater than max.
+     */
+    public AppFileGenerator lineLength(int min, int max) {
+        checkRange(min, max, 1);
+        this.minLineLength = min;
+        this.maxLineLength = max;
+        return this;
+    }
+
+    /**
+     * Sets the number of distinct reviewers.
+     *
+     * @param count The number of reviewers.
+     * @return This generator.
+     * @throws IllegalArgumentException if count is less than 1.
+     */
+    public AppFileGenerator reviewers(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("There must be at least one reviewer.");
+        }
+        this.reviewers = count;
+        return this;
+    }
+
+    /**
+     * Writes applications with ids 1 to count to a file.
+     *
+     * @param filename The name of the file to write to.
+     * @param count    The number of applications.
+     * @throws IllegalArgumentException if the file cannot be written to or count is negative.
+     */
+    public void writeToFile(String filename, int count) {
+        checkCount(count);
+        try (Writer writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(filename), StandardCharsets.UTF_8), 1 << 16)) {
+            write(writer, count);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to save file.", e);
+        }
+    }
+
+    /**
+     * Writes applications with ids 1 to count.
+     *
+     * @param writer The writer to write to; callers should buffer it.
+     * @param count  The number of applications.
+     * @throws IOException if the writer fails.
+     * @throws IllegalArgumentException if count is negative.
+     */
+    public void write(Writer writer, int count) throws IOException {
+        checkCount(count);
+        Random random = new Random(seed);
+        Record record = new Record();
+        for (int id = 1; id <= count; id++) {
+            record.generate(random, id);
+            record.writeTo(writer);
+        }
+    }
+
+    /**
+     * Creates applications with ids 1 to count, the same as reading back the file
+     * writeToFile writes.
+     *
+     * @param count The number of applications.
+     * @return The applications, in id order.
+     * @throws IllegalArgumentException if count is negative.
+     */
+    public List<Application> generate(int count) {
+        checkCount(count);
+        Random random = new Random(seed);
+        Record record = new Record();
+        List<Application> applications = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            record.generate(random, id);
+            applications.add(record.toApplication());
+        }
+        return applications;
+    }
+
+    /**
+     * Writes a generated file from the command line.
+     *
+     * @param args The output file and the number of applications, then options.
+     */
+    public static void main(String[] args) {
+        if (args.length < 2 || args.length % 2 != 0) {
+            usage();
+        }
+        try {
+            int count = Integer.parseInt(args[1]);
+            long seed = 42;
+            for (int i = 2; i < args.length; i += 2) {
+                if ("--seed".equals(args[i])) {
+                    seed = Long.parseLong(args[i + 1]);
+                }
+            }
+            AppFileGenerator generator = new AppFileGenerator(seed);
+            for (int i = 2; i < args.length; i += 2) {
+                generator.option(args[i], args[i + 1]);
+            }
+            generator.writeToFile(args[0], count);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            usage();
+        }
+    }
+
+    /**
+     * Applies one command line option.
+     *
+     * @param name  The option, such as "--notes".
+     * @param value The value after it.
+     * @throws IllegalArgumentException if the option is unknown or its value is invalid.
+     */
+    private void option(String name, String value) {
+        switch (name) {
+            case "--seed":
+                break;
+            case "--states":
+                stateWeights(parseWeights(value));
+                break;
+            case "--types":
+                typeWeights(parseWeights(value));
+                break;
+            case "--notes":
+                notes(parseMin(value), parseMax(value));
+                break;
+            case "--note-lines":
+                noteLines(parseMin(value), parseMax(value));
+                break;
+            case "--line-length":
+                lineLength(parseMin(value), parseMax(value));
+                break;
+            case "--reviewers":
+                reviewers(Integer.parseInt(value));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown option " + name + ".");
+        }
+    }
+
+    /**
+     * Prints how to run the generator and exits.
+     */
+    private static void usage() {
+        System.err.println("Usage: AppFileGenerator <output file> <count> [--seed n]"
+                + " [--states r,i,w,c,o,x] [--types new,old,hired] [--notes min-max]"
+                + " [--note-lines min-max] [--line-length min-max] [--reviewers n]");
+        System.exit(1);
+    }
+
+    /**
+     * Parses comma-separated weights.
+     *
+     * @param value The weights, such as "1,2,0".
+     * @return The weights.
+     * @throws NumberFormatException if a weight is not a number.
+     */
+    private static double[] parseWeights(String value) {
+        String[] fields = value.split(",");
+        double[] weights = new double[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            weights[i] = Double.parseDouble(fields[i]);
+        }
+        return weights;
+    }
+
+    /**
+     * Parses the lower end of a range such as "2-5" or a single number.
+     *
+     * @param value The range.
+     * @return The lower end.
+     * @throws NumberFormatException if the value is not a range.
+     */
+    private static int parseMin(String value) {
+        int dash = value.indexOf('-');
+        return Integer.parseInt(dash < 0 ? value : value.substring(0, dash));
+    }
+
+    /**
+     * Parses the upper end of a range such as "2-5" or a single number.
+     *
+     * @param value The range.
+     * @return The upper end.
+     * @throws NumberFormatException if the value is not a range.
+     */
+    private static int parseMax(String value) {
+        return Integer.parseInt(value.substring(value.indexOf('-') + 1));
+    }
+
+    /**
+     * Checks a set of weights.
+     *
+     * @param weights The weights.
+     * @param length  The number of weights expected.
+     * @return The weights.
+     * @throws IllegalArgumentException if there are not length weights, one is negative or all are 0.
+     */
+    private static double[] checkWeights(double[] weights, int length) {
+        if (weights == null || weights.length != length) {
+            throw new IllegalArgumentException("Expected " + length + " weights.");
+        }
+        double total = 0;
+        for (double weight : weights) {
+            if (!(weight >= 0)) {
+                throw new IllegalArgumentException("Weights cannot be negative.");
+            }
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive.");
+        }
+        return weights;
+    }
+
+    /**
+     * Checks a range.
+     *
+     * @param min    The lower end.
+     * @param max    The upper end.
+     * @param lowest The smallest allowed lower end.
+     * @throws IllegalArgumentException if min is less than lowest or greater than max.
+     */
+    private static void checkRange(int min, int max, int lowest) {
+        if (min < lowest || min > max) {
+            throw new IllegalArgumentException("Invalid range " + min + "-" + max + ".");
+        }
+    }
+
+    /**
+     * Checks a number of applications.
+     *
+     * @param count The number of applications.
+     * @throws IllegalArgumentException if count is negative.
+     */
+    private static void checkCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative.");
+        }
+    }
+
+    /**
+     * Turns weights into running totals.
+     *
+     * @param weights The weights.
+     * @return The running totals.
+     */
+    private static double[] cumulative(double[] weights) {
+        double[] totals = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            totals[i] = total;
+        }
+        return totals;
+    }
+
+    /**
+     * Draws an index with probability proportional to its weight.
+     *
+     * @param random  The random numbers.
+     * @param weights The running totals of the weights.
+     * @return The index.
+     */
+    private static int draw(Random random, double[] weights) {
+        double x = random.nextDouble() * weights[weights.length - 1];
+        for (int i = 0; i < weights.length - 1; i++) {
+            if (x < weights[i]) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    /**
+     * Draws an int uniformly from a range.
+     *
+     * @param random The random numbers.
+     * @param min    The lower end.
+     * @param max    The upper end, included.
+     * @return The int.
+     */
+    private static int between(Random random, int min, int max) {
+        return min + random.nextInt(max - min + 1);
+    }
+
+    /**
+     * One generated application, refilled for each id so writing a file allocates
+     * only the text of its notes.
+     */
+    private class Record {
+        /** Ordinals of the states visited, ending in the current one */
+        private final int[] path = new int[5];
+        /** Number of states in path */
+        private int pathLength;
+        /** Id of the application */
+        private int id;
+        /** Index of the type in TYPES */
+        private int type;
+        /** Reviewer, or null */
+        private String reviewer;
+        /** Whether the paperwork is processed */
+        private boolean processed;
+        /** Resolution field, or null */
+        private String resolution;
+        /** Summary of the application */
+        private String summary;
+        /** Notes, without the leading '-' */
+        private final ArrayList<String> notes = new ArrayList<>();
+        /** Scratch space for building notes */
+        private final StringBuilder text = new StringBuilder();
+        /** Scratch space for formatting the id */
+        private final char[] digits = new char[11];
+
+        /**
+         * Fills in the record for an id.
+         *
+         * @param random The random numbers.
+         * @param appId  The id of the application.
+         */
+        void generate(Random random, int appId) {
+            this.id = appId;
+            int state = draw(random, stateWeights);
+            type = draw(random, typeWeights);
+            choosePath(random, state);
+            reviewer = path[pathLength - 1] == REVIEW || (type == NEW && random.nextBoolean()) ? null
+                    : "reviewer" + random.nextInt(reviewers);
+            processed = reached(REFCHK);
+            summary = words(random, 3 + random.nextInt(5));
+            notes.clear();
+            int count = between(random, minNotes, maxNotes);
+            for (int i = 0; i < count; i++) {
+                int stamp = i == count - 1 ? path[pathLength - 1] : path[i * pathLength / count];
+                notes.add(note(random, STATES[stamp]));
+            }
+        }
+
+        /**
+         * Picks the states the application passed through to reach its state, and the
+         * resolution and type that go with that path.
+         *
+         * @param random The random numbers.
+         * @param state  The current state.
+         */
+        private void choosePath(Random random, int state) {
+            resolution = null;
+            int steps;
+            switch (state) {
+                case WAITLIST:
+                    steps = type == NEW ? 1 : 1 + random.nextInt(2);
+                    resolution = steps == 1 ? "ReviewCompleted" : "InterviewCompleted";
+                    break;
+                case CLOSED:
+                    steps = type == NEW ? 1 : type == HIRED ? 4 : 1 + random.nextInt(4);
+                    resolution = CLOSED_RESOLUTIONS[steps];
+                    break;
+                case INTERVIEW:
+                    steps = 1;
+                    break;
+                case REFCHK:
+                    steps = 2;
+                    break;
+                case OFFER:
+                    steps = 3;
+                    break;
+                default:
+                    steps = 0;
+                    break;
+            }
+            System.arraycopy(PATH_TO_OFFER, 0, path, 0, steps);
+            path[steps] = state;
+            pathLength = steps + 1;
+            if (type == NEW && (steps > 1 || state == INTERVIEW) || type == HIRED && !(state == CLOSED && steps == 4)) {
+                type = OLD;
+            }
+        }
+
+        /**
+         * Checks whether the path passes through a state.
+         *
+         * @param state The state.
+         * @return True if the path contains the state.
+         */
+        private boolean reached(int state) {
+            for (int i = 0; i < pathLength; i++) {
+                if (path[i] == state) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Builds a note stamped with a state, of one or more lines.
+         *
+         * @param random The random numbers.
+         * @param state  The name of the state.
+         * @return The note.
+         */
+        private String note(Random random, String state) {
+            text.setLength(0);
+            text.append('[').append(state).append("] ");
+            int lines = between(random, minNoteLines, maxNoteLines);
+            for (int line = 0; line < lines; line++) {
+                if (line > 0) {
+                    text.append('\n');
+                }
+                int start = text.length();
+                int length = between(random, minLineLength, maxLineLength);
+                do {
+                    if (text.length() > start) {
+                        text.append(' ');
+                    }
+                    text.append(WORDS[random.nextInt(WORDS.length)]);
+                } while (text.length() - start < length);
+            }
+            return text.toString();
+        }
+
+        /**
+         * Joins random words.
+         *
+         * @param random The random numbers.
+         * @param count  The number of words.
+         * @return The words separated by spaces.
+         */
+        private String words(Random random, int count) {
+            text.setLength(0);
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    text.append(' ');
+                }
+                text.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            return text.toString();
+        }
+
+        /**
+         * Writes the record as a header line and a line or more per note, through
+         * the same code AppWriter writes applications with.
+         *
+         * @param writer The writer to write to.
+         * @throws IOException if the writer fails.
+         */
+        void writeTo(Writer writer) throws IOException {
+            AppWriter.writeHeader(writer, id, STATES[path[pathLength - 1]], TYPES[type], summary, reviewer,
+                    processed, resolution, digits);
+            for (int i = 0; i < notes.size(); i++) {
+                AppWriter.writeNote(writer, notes.get(i));
+            }
+        }
+
+        /**
+         * Creates the Application the record describes.
+         *
+         * @return The Application.
+         */
+        Application toApplication() {
+            return new Application(id, STATES[path[pathLength - 1]], TYPES[type], summary, reviewer, processed,
+                    resolution, new ArrayList<>(notes));
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Append-only journal of changes made to an application list since its last
+ * snapshot was saved. Each entry is one line:
+ * <ul>
+ * <li>{@code A<tab>record} for an added application,</li>
+ * <li>{@code C<tab>id<tab>command<tab>record} for a command and the application it produced,</li>
+ * <li>{@code D<tab>id} for a deleted application,</li>
+ * </ul>
+ * where record is the application in the AppWriter file format with tabs, line
+ * breaks and backslashes escaped. Entries carry the whole application after the
+ * change rather than just the command, so replaying an entry that is already in
+ * the snapshot is harmless. That lets a snapshot be saved and the journal cleared
+ * as two separate steps without risk from a crash between them. Entries may be
+ * written from several threads; each is written whole before the next begins.
+ */
+public class AppJournal implements Closeable {
+
+    /** Marks an added application */
+    private static final char ADD = 'A';
+    /** Marks an application changed by a command */
+    private static final char COMMAND = 'C';
+    /** Marks a deleted application */
+    private static final char DELETE = 'D';
+    /** Separates the fields of an entry */
+    private static final char SEPARATOR = '\t';
+
+    /** Journal file, opened for appending */
+    private final FileOutputStream out;
+    /** Buffered writer over out */
+    private final Writer writer;
+    /** Whether each entry is forced to disk, not just flushed to the OS */
+    private final boolean durable;
+    /** Scratch space for formatting ids */
+    private final char[] digits = new char[11];
+    /** Number of entries written since the journal was opened or cleared; written under this */
+    private volatile int entries;
+
+    /**
+     * Opens a journal for appending, creating it if needed. A last entry cut short
+     * by a crash is removed first so new entries start on a line of their own.
+     *
+     * @param filename The journal file.
+     * @param durable  True to fsync every entry.
+     * @throws IllegalArgumentException if the journal cannot be opened.
+     */
+    public AppJournal(String filename, boolean durable) {
+        try {
+            dropTornEntry(filename);
+            this.out = new FileOutputStream(filename, true);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to open journal.", e);
+        }
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.durable = durable;
+    }
+
+    /**
+     * Records an added application.
+     *
+     * @param app The application that was added.
+     * @throws IllegalArgumentException if the entry cannot be written.
+     */
+    public synchronized void logAdd(Application app) {
+        try {
+            writer.write(ADD);
+            writer.write(SEPARATOR);
+            writeRecord(app);
+            endEntry();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to write journal.", e);
+        }
+    }
+
+    /**
+     * Records a command and the application it produced.
+     *
+     * @param app     The application after the command was executed.
+     * @param command The command that was executed.
+     * @throws IllegalArgumentException if the entry cannot be written.
+     */
+    public synchronized void logCommand(Application app, Command command) {
+        try {
+            writer.write(COMMAND);
+            writer.write(SEPARATOR);
+            writeId(app.getAppId());
+            writer.write(SEPARATOR);
+            writer.write(command.getCommand().name());
+            writer.write(SEPARATOR);
+            writeRecord(app);
+            endEntry();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to write journal.", e);
+        }
+    }
+
+    /**
+     * Records a deleted application.
+     *
+     * @param appId The ID of the application that was deleted.
+     * @throws IllegalArgumentException if the entry cannot be written.
+     */
+    public synchronized void logDelete(int appId) {
+        try {
+            writer.write(DELETE);
+            writer.write(SEPARATOR);
+            writeId(appId);
+            endEntry();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to write journal.", e);
+        }
+    }
+
+    /**
+     * Discards every entry, after their changes have been saved in a snapshot.
+     *
+     * @throws IllegalArgumentException if the journal cannot be truncated.
+     */
+    public synchronized void clear() {
+        try {
+            writer.flush();
+            out.getChannel().truncate(0);
+            if (durable) {
+                out.getChannel().force(true);
+            }
+            entries = 0;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to write journal.", e);
+        }
+    }
+
+    /**
+     * Gets the number of entries written since the journal was opened or cleared.
+     * Does not wait for an entry being written.
+     *
+     * @return The number of entries.
+     */
+    public int getEntryCount() {
+        return entries;
+    }
+
+    /**
+     * Flushes and closes the journal.
+     *
+     * @throws IOException if the journal cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Replays a journal in order. Added and changed applications are passed to put,
+     * which should replace any application with the same id. A last line cut short
+     * by a crash is ignored. A missing journal replays nothing.
+     *
+     * @param filename The journal file.
+     * @param put      Receives added or changed applications.
+     * @param delete   Receives the ids of deleted applications.
+     * @return The number of entries replayed.
+     * @throws IllegalArgumentException if the journal cannot be read or holds a malformed entry.
+     */
+    public static int replay(String filename, Consumer<Application> put, IntConsumer delete) {
+        int count = 0;
+        try (Reader reader = new InputStreamReader(new FileInputStream(filename), StandardCharsets.UTF_8)) {
+            StringBuilder line = new StringBuilder();
+            char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        replayEntry(line.toString(), put, delete);
+                        line.setLength(0);
+                        count++;
+                    } else {
+                        line.append(buffer[i]);
+                    }
+                }
+            }
+        } catch (FileNotFoundException e) {
+            return 0;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read journal.", e);
+        }
+        return count;
+    }
+
+    /**
+     * Truncates the journal after its last line break.
+     *
+     * @param filename The journal file.
+     * @throws IOException if the journal cannot be truncated.
+     */
+    private static void dropTornEntry(String filename) throws IOException {
+        if (!new File(filename).exists()) {
+            return;
+        }
+        try (RandomAccessFile file = new RandomAccessFile(filename, "rw")) {
+            long end = file.length();
+            while (end > 0) {
+                file.seek(end - 1);
+                if (file.read() == '\n') {
+                    break;
+                }
+                end--;
+            }
+            file.setLength(end);
+        }
+    }
+
+    /**
+     * Applies one journal entry.
+     *
+     * @param entry  The entry, without its line break.
+     * @param put    Receives added or changed applications.
+     * @param delete Receives the ids of deleted applications.
+     * @throws IllegalArgumentException if the entry is malformed.
+     */
+    private static void replayEntry(String entry, Consumer<Application> put, IntConsumer delete) {
+        if (entry.length() < 2 || entry.charAt(1) != SEPARATOR) {
+            throw new IllegalArgumentException("Unable to read journal.");
+        }
+        try {
+            switch (entry.charAt(0)) {
+                case ADD:
+                    put.accept(AppStreamReader.parseRecord(unescape(entry.substring(2))));
+                    break;
+                case COMMAND:
+                    int record = entry.indexOf(SEPARATOR, entry.indexOf(SEPARATOR, 2) + 1);
+                    put.accept(AppStreamReader.parseRecord(unescape(entry.substring(record + 1))));
+                    break;
+                case DELETE:
+                    delete.accept(Integer.parseInt(entry.substring(2)));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unable to read journal.");
+            }
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unable to read journal.", e);
+        }
+    }
+
+    /**
+     * Writes an application as an escaped record on the current line.
+     *
+     * @param app The application to write.
+     * @throws IOException if the journal cannot be written.
+     */
+    private void writeRecord(Application app) throws IOException {
+        StringWriter record = new StringWriter();
+        AppWriter.writeApp(record, app, digits);
+        CharSequence text = record.getBuffer();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    writer.write(c);
+            }
+        }
+    }
+
+    /**
+     * Writes an id on the current line.
+     *
+     * @param appId The id to write.
+     * @throws IOException if the journal cannot be written.
+     */
+    private void writeId(int appId) throws IOException {
+        int pos = digits.length;
+        do {
+            digits[--pos] = (char) ('0' + appId % 10);
+            appId /= 10;
+        } while (appId > 0);
+        writer.write(digits, pos, digits.length - pos);
+    }
+
+    /**
+     * Ends the current entry and pushes it out of the process.
+     *
+     * @throws IOException if the journal cannot be written.
+     */
+    private void endEntry() throws IOException {
+        writer.write('\n');
+        writer.flush();
+        if (durable) {
+            out.getChannel().force(false);
+        }
+        entries++;
+    }
+
+    /**
+     * Reverses the escaping applied by writeRecord.
+     *
+     * @param text The escaped text.
+     * @return The original text.
+     */
+    private static String unescape(String text) {
+        if (text.indexOf('\\') < 0) {
+            return text;
+        }
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                char next = text.charAt(++i);
+                switch (next) {
+                    case 'n':
+                        result.append('\n');
+                        break;
+                    case 'r':
+                        result.append('\r');
+                        break;
+                    case 't':
+                        result.append('\t');
+                        break;
+                    default:
+                        result.append(next);
+                }
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+}
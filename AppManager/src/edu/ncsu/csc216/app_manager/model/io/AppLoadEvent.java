@@ -0,0 +1,39 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for reading an application file, off unless a recording's
+ * settings turn it on.
+ */
+@Name("edu.ncsu.csc216.app_manager.Load")
+@Label("Application File Load")
+@Category({ "App Manager", "File I/O" })
+@Description("Applications read from a text or binary file")
+@Enabled(false)
+@StackTrace(false)
+final class AppLoadEvent extends Event {
+    /** File read */
+    @Label("File")
+    String file;
+
+    /** How the file was read: stream, mapped, parallel or binary */
+    @Label("Mode")
+    String mode;
+
+    /** Number of applications read */
+    @Label("Records")
+    int records;
+
+    /** Size of the file */
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+}
@@ -3,10 +3,10 @@ package edu.ncsu.csc216.app_manager.model.io;
 import edu.ncsu.csc216.app_manager.model.application.Application;
 
 import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Handles reading Applications from a file.
@@ -14,60 +14,108 @@ import java.util.Scanner;
 public class AppReader {
 
     /**
-     * Reads applications from a file and returns them as a List.
+     * Reads applications from a file and returns them as a List. Files starting with
+     * the {@link AppBinaryFormat} magic are read as binary snapshots. Text records are
+     * parsed one at a time by {@link AppStreamReader}; callers that do not need
+     * the whole list at once can use it directly.
      * 
      * @param filename The name of the file to read from.
      * @return A list of Applications read from the file.
      * @throws IllegalArgumentException if the file cannot be read or processed.
      */
     public static List<Application> readAppsFromFile(String filename) {
+        AppLoadEvent event = new AppLoadEvent();
+        event.begin();
+        if (AppBinaryFormat.isBinary(filename)) {
+            return readBinary(filename, event);
+        }
         List<Application> applications = new ArrayList<>();
-        try (Scanner fileScanner = new Scanner(new File(filename))) {
-            StringBuilder fileContent = new StringBuilder();
-            while (fileScanner.hasNextLine()) {
-                fileContent.append(fileScanner.nextLine()).append("\n");
-            }
-
-            String[] appBlocks = fileContent.toString().split("\\r?\\n?[*]");
-            for (String block : appBlocks) {
-                if (!block.trim().isEmpty()) {
-                    applications.add(processApplication(block));
-                }
+        try (AppStreamReader reader = AppStreamReader.open(filename)) {
+            while (reader.hasNext()) {
+                applications.add(reader.next());
             }
-        } catch (FileNotFoundException e) {
+        } catch (IOException e) {
             throw new IllegalArgumentException("Unable to load file.", e);
         }
-        return applications;
+        return commit(event, filename, "stream", applications);
     }
 
     /**
-     * Processes a block of text to create an Application object.
+     * Reads applications from a file by memory-mapping it instead of streaming it
+     * through a Reader. Suited to very large files; see {@link MappedAppFile} for
+     * reading only the header fields of each record.
      * 
-     * @param block The block of text representing an Application.
-     * @return The created Application object.
-     * @throws IllegalArgumentException if the Application cannot be created.
+     * @param filename The name of the file to read from.
+     * @return A list of Applications read from the file.
+     * @throws IllegalArgumentException if the file cannot be read or processed.
      */
-    private static Application processApplication(String block) {
-        String[] lines = block.split("\\r?\\n?[-]");
-        String[] fields = lines[0].split(",");
+    public static List<Application> readAppsFromMappedFile(String filename) {
+        AppLoadEvent event = new AppLoadEvent();
+        event.begin();
+        if (AppBinaryFormat.isBinary(filename)) {
+            return readBinary(filename, event);
+        }
+        try (MappedAppFile file = MappedAppFile.open(filename)) {
+            return commit(event, filename, "mapped", file.getApplications());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to load file.", e);
+        }
+    }
 
-        if (fields.length != 7) {
-            throw new IllegalArgumentException("Unable to load file.");
+    /**
+     * Reads applications from a memory-mapped file, decoding records in parallel on
+     * the given pool. The result is in file order and the same as readAppsFromFile
+     * would return, and an invalid file raises the same error.
+     * 
+     * @param filename The name of the file to read from.
+     * @param pool     The pool to decode records on.
+     * @return A list of Applications read from the file.
+     * @throws IllegalArgumentException if the file cannot be read or processed.
+     */
+    public static List<Application> readAppsFromFileInParallel(String filename, ForkJoinPool pool) {
+        AppLoadEvent event = new AppLoadEvent();
+        event.begin();
+        if (AppBinaryFormat.isBinary(filename)) {
+            return readBinary(filename, event);
+        }
+        try (MappedAppFile file = MappedAppFile.open(filename)) {
+            return commit(event, filename, "parallel", ParallelAppReader.read(file, pool));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to load file.", e);
         }
+    }
 
-        int id = Integer.parseInt(fields[0].trim());
-        String state = fields[1].trim();
-        String appType = fields[2].trim();
-        String summary = fields[3].trim();
-        String reviewer = fields[4].trim().isEmpty() ? null : fields[4].trim();
-        boolean processPaperwork = Boolean.parseBoolean(fields[5].trim());
-        String resolution = fields[6].trim().isEmpty() ? null : fields[6].trim();
+    /**
+     * Reads a binary snapshot, reporting it to Flight Recorder.
+     * 
+     * @param filename The name of the file to read from.
+     * @param event    The load event, already begun.
+     * @return A list of Applications read from the file.
+     * @throws IllegalArgumentException if the file cannot be read or processed.
+     */
+    private static List<Application> readBinary(String filename, AppLoadEvent event) {
+        return commit(event, filename, "binary", AppBinaryFormat.read(filename));
+    }
 
-        ArrayList<String> notes = new ArrayList<>();
-        for (int i = 1; i < lines.length; i++) {
-            notes.add(lines[i].trim());
+    /**
+     * Commits a load event if Flight Recorder is recording it.
+     * 
+     * @param event        The event, begun before reading.
+     * @param filename     The name of the file read.
+     * @param mode         How the file was read.
+     * @param applications The applications read.
+     * @return The applications read.
+     */
+    private static List<Application> commit(AppLoadEvent event, String filename, String mode,
+            List<Application> applications) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.file = filename;
+            event.mode = mode;
+            event.records = applications.size();
+            event.bytes = new File(filename).length();
+            event.commit();
         }
-
-        return new Application(id, state, appType, summary, reviewer, processPaperwork, resolution, notes);
+        return applications;
     }
 }
@@ -0,0 +1,47 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for writing an application file, off unless a recording's
+ * settings turn it on.
+ */
+@Name("edu.ncsu.csc216.app_manager.Save")
+@Label("Application File Save")
+@Category({ "App Manager", "File I/O" })
+@Description("Applications written to a text or binary file")
+@Enabled(false)
+@StackTrace(false)
+final class AppSaveEvent extends Event {
+    /** File written */
+    @Label("File")
+    String file;
+
+    /** Format written: text or binary */
+    @Label("Format")
+    String format;
+
+    /** Whether the file was replaced atomically */
+    @Label("Atomic")
+    boolean atomic;
+
+    /** Whether the file was forced to disk */
+    @Label("Durable")
+    boolean durable;
+
+    /** Number of applications written */
+    @Label("Records")
+    int records;
+
+    /** Size of the file written */
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+}
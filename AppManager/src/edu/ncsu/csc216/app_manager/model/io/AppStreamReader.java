@@ -0,0 +1,351 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads Applications from a file one record at a time. Each record starts with a
+ * header line beginning with '*' and holds the fields
+ * id,state,type,summary,reviewer,processed,resolution, in which a backslash
+ * escapes a comma or another backslash and stands with 'n' or 'r' for a line
+ * break. Each following line that begins with '-' starts a note; any other line
+ * continues the previous note on a new line, with a leading backslash dropped so
+ * that a continued line can begin with '*' or '-'. Only the record being parsed is
+ * held in memory.
+ */
+public class AppStreamReader implements Iterator<Application>, Closeable {
+
+    /** Number of comma-separated fields in a header line */
+    private static final int HEADER_FIELDS = 7;
+    /** Character that starts a record header line */
+    private static final char HEADER_MARK = '*';
+    /** Character that starts a note line */
+    private static final char NOTE_MARK = '-';
+    /** Character that escapes the next one */
+    private static final char ESCAPE = '\\';
+
+    /** Source of lines */
+    private final BufferedReader reader;
+    /** Header line of the record after the one being returned, or null at end of input */
+    private String pendingHeader;
+    /** Whether the first header line has been looked for */
+    private boolean started;
+    /** Record parsed ahead by hasNext, or null */
+    private Application next;
+
+    /**
+     * Constructs a reader over the given character stream.
+     *
+     * @param in The stream to read records from.
+     */
+    public AppStreamReader(Reader in) {
+        this.reader = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in);
+    }
+
+    /**
+     * Opens a reader over the given file.
+     *
+     * @param filename The name of the file to read from.
+     * @return A reader positioned before the first record.
+     * @throws IllegalArgumentException if the file cannot be opened.
+     */
+    public static AppStreamReader open(String filename) {
+        try {
+            return new AppStreamReader(new FileReader(filename));
+        } catch (FileNotFoundException e) {
+            throw new IllegalArgumentException("Unable to load file.", e);
+        }
+    }
+
+    /**
+     * Checks whether another record is available, parsing it if needed.
+     *
+     * @return True if next will return an Application.
+     * @throws IllegalArgumentException if the next record cannot be read or processed.
+     */
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readRecord();
+        }
+        return next != null;
+    }
+
+    /**
+     * Returns the next record.
+     *
+     * @return The next Application in the file.
+     * @throws NoSuchElementException if there are no more records.
+     * @throws IllegalArgumentException if the record cannot be read or processed.
+     */
+    @Override
+    public Application next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Application app = next;
+        next = null;
+        return app;
+    }
+
+    /**
+     * Closes the underlying stream.
+     *
+     * @throws IOException if the stream cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads lines up to the start of the following record and builds an Application.
+     *
+     * @return The parsed Application, or null at end of input.
+     * @throws IllegalArgumentException if the record cannot be read or processed.
+     */
+    private Application readRecord() {
+        try {
+            if (!started) {
+                started = true;
+                pendingHeader = skipToFirstHeader();
+            }
+            if (pendingHeader == null) {
+                return null;
+            }
+            RecordBuilder record = new RecordBuilder(pendingHeader);
+            pendingHeader = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!record.addLine(line)) {
+                    pendingHeader = line;
+                    break;
+                }
+            }
+            return record.build();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to load file.", e);
+        }
+    }
+
+    /**
+     * Parses text holding exactly one record, such as a record cut out of a larger
+     * file, without going through a Reader.
+     *
+     * @param text The record text, starting with its '*' header line.
+     * @return The parsed Application.
+     * @throws IllegalArgumentException if the text is not a single valid record.
+     */
+    static Application parseRecord(String text) {
+        if (!startsWith(text, HEADER_MARK)) {
+            throw new IllegalArgumentException("Unable to load file.");
+        }
+        int end = lineEnd(text, 0);
+        RecordBuilder record = new RecordBuilder(line(text, 0, end));
+        for (int start = end + 1; start < text.length(); start = end + 1) {
+            end = lineEnd(text, start);
+            if (!record.addLine(line(text, start, end))) {
+                throw new IllegalArgumentException("Unable to load file.");
+            }
+        }
+        return record.build();
+    }
+
+    /**
+     * Finds the end of the line starting at the given index.
+     *
+     * @param text  The text to search.
+     * @param start The index the line starts at.
+     * @return The index of the line's '\n', or the text length for the last line.
+     */
+    private static int lineEnd(String text, int start) {
+        int end = text.indexOf('\n', start);
+        return end < 0 ? text.length() : end;
+    }
+
+    /**
+     * Cuts a line out of text, dropping a trailing '\r' as readLine would.
+     *
+     * @param text  The text holding the line.
+     * @param start The index the line starts at.
+     * @param end   The index the line ends at.
+     * @return The line without its terminator.
+     */
+    private static String line(String text, int start, int end) {
+        if (end > start && text.charAt(end - 1) == '\r') {
+            end--;
+        }
+        return text.substring(start, end);
+    }
+
+    /**
+     * Skips blank lines before the first record.
+     *
+     * @return The first header line, or null if the input has no records.
+     * @throws IOException if the stream cannot be read.
+     * @throws IllegalArgumentException if text appears before the first record.
+     */
+    private String skipToFirstHeader() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (startsWith(line, HEADER_MARK)) {
+                return line;
+            } else if (!line.trim().isEmpty()) {
+                throw new IllegalArgumentException("Unable to load file.");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Splits a header line into its fields and creates the Application.
+     *
+     * @param header The header line, including the leading '*'.
+     * @param notes  The notes of the record.
+     * @return The created Application.
+     * @throws IllegalArgumentException if the header is malformed or the Application cannot be created.
+     */
+    private static Application processHeader(String header, ArrayList<String> notes) {
+        String[] fields = new String[HEADER_FIELDS];
+        int count = 0;
+        int start = 1;
+        boolean escaped = false;
+        for (int i = 1; i <= header.length(); i++) {
+            if (i + 1 < header.length() && header.charAt(i) == ESCAPE) {
+                escaped = true;
+                i++;
+            } else if (i == header.length() || header.charAt(i) == ',') {
+                if (count == HEADER_FIELDS) {
+                    throw new IllegalArgumentException("Unable to load file.");
+                }
+                String field = header.substring(start, i).trim();
+                fields[count++] = escaped ? unescape(field) : field;
+                start = i + 1;
+                escaped = false;
+            }
+        }
+        if (count != HEADER_FIELDS) {
+            throw new IllegalArgumentException("Unable to load file.");
+        }
+
+        int id;
+        try {
+            id = Integer.parseInt(fields[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Unable to load file.", e);
+        }
+        String reviewer = fields[4].isEmpty() ? null : fields[4];
+        boolean processPaperwork = Boolean.parseBoolean(fields[5]);
+        String resolution = fields[6].isEmpty() ? null : fields[6];
+
+        return new Application(id, fields[1], fields[2], fields[3], reviewer, processPaperwork, resolution, notes);
+    }
+
+    /**
+     * Reverses the escaping of a header field.
+     *
+     * @param field The field as written.
+     * @return The field value.
+     */
+    private static String unescape(String field) {
+        StringBuilder value = new StringBuilder(field.length());
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == ESCAPE && i + 1 < field.length()) {
+                c = field.charAt(++i);
+                if (c == 'n') {
+                    c = '\n';
+                } else if (c == 'r') {
+                    c = '\r';
+                }
+            }
+            value.append(c);
+        }
+        return value.toString();
+    }
+
+    /**
+     * Collects the lines of one record: its header, then note lines and the lines
+     * continuing them.
+     */
+    private static class RecordBuilder {
+        /** Header line of the record */
+        private final String header;
+        /** Completed notes */
+        private final ArrayList<String> notes = new ArrayList<>();
+        /** Note being collected, or null before the first note line */
+        private StringBuilder note;
+
+        /**
+         * Starts a record.
+         *
+         * @param header The header line, including the leading '*'.
+         */
+        RecordBuilder(String header) {
+            this.header = header;
+        }
+
+        /**
+         * Adds a line following the header.
+         *
+         * @param line The line to add.
+         * @return False if the line is the header of the next record and was not added.
+         * @throws IllegalArgumentException if text appears before the first note.
+         */
+        boolean addLine(String line) {
+            if (startsWith(line, HEADER_MARK)) {
+                return false;
+            } else if (startsWith(line, NOTE_MARK)) {
+                endNote();
+                note = new StringBuilder(line.length());
+                note.append(line, 1, line.length());
+            } else if (note != null) {
+                note.append('\n').append(line, startsWith(line, ESCAPE) ? 1 : 0, line.length());
+            } else if (!line.trim().isEmpty()) {
+                throw new IllegalArgumentException("Unable to load file.");
+            }
+            return true;
+        }
+
+        /**
+         * Creates the Application from the collected lines.
+         *
+         * @return The created Application.
+         * @throws IllegalArgumentException if the header is malformed or the Application cannot be created.
+         */
+        Application build() {
+            endNote();
+            return processHeader(header, notes);
+        }
+
+        /**
+         * Adds the note being collected, if any, to the notes.
+         */
+        private void endNote() {
+            if (note != null) {
+                notes.add(note.toString().trim());
+                note = null;
+            }
+        }
+    }
+
+    /**
+     * Checks whether a line begins with the given marker character.
+     *
+     * @param line The line to check.
+     * @param mark The marker character.
+     * @return True if the first character of the line is the marker.
+     */
+    private static boolean startsWith(String line, char mark) {
+        return !line.isEmpty() && line.charAt(0) == mark;
+    }
+}
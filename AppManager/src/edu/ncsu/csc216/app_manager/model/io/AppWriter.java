@@ -2,30 +2,429 @@ package edu.ncsu.csc216.app_manager.model.io;
 
 import edu.ncsu.csc216.app_manager.model.application.Application;
 
-import java.io.FileWriter;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Handles writing Applications to a file.
  */
 public class AppWriter {
 
+    /** Size of the character buffer in front of the file */
+    private static final int BUFFER_SIZE = 1 << 16;
+    /** Resolution name reported for states without a resolution */
+    private static final String NO_RESOLUTION = "No Resolution";
+    /** Characters that are escaped at the start of a line inside a note */
+    private static final String NOTE_MARKS = "*-\\";
+
     /**
      * Writes a list of Applications to a file.
-     * 
+     *
      * @param filename     The name of the file to write to.
      * @param applications The list of Applications to write.
      * @throws IllegalArgumentException if the file cannot be written to.
      */
     public static void writeAppsToFile(String filename, List<Application> applications) {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
-            for (Application app : applications) {
-                writer.print(app.toString());
+        AppSaveEvent event = new AppSaveEvent();
+        event.begin();
+        try (Writer writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(filename), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            writeApps(writer, applications);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to save file.", e);
+        }
+        commit(event, filename, "text", false, false, applications.size());
+    }
+
+    /**
+     * Writes a list of Applications to a file without ever leaving it half written.
+     * The records go to a temporary file beside the target, which is then renamed over
+     * the target in one atomic step, so readers see either the old or the new file.
+     *
+     * @param filename     The name of the file to write to.
+     * @param applications The list of Applications to write.
+     * @param durable      True to fsync the file and its directory so the save survives
+     *                     a power loss, at the cost of waiting for the disk.
+     * @param generations  Number of previous versions to keep as filename.1 (newest)
+     *                     to filename.N; 0 keeps none.
+     * @throws IllegalArgumentException if the file cannot be written to or generations is negative.
+     */
+    public static void writeAppsToFileAtomically(String filename, List<Application> applications,
+            boolean durable, int generations) {
+        AppSaveEvent event = new AppSaveEvent();
+        event.begin();
+        writeAtomically(filename, durable, generations, out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            writeApps(writer, applications);
+            writer.flush();
+        });
+        commit(event, filename, "text", true, durable, applications.size());
+    }
+
+    /**
+     * Writes a list of Applications to a file as an {@link AppBinaryFormat} snapshot,
+     * replacing the file atomically as writeAppsToFileAtomically does.
+     *
+     * @param filename     The name of the file to write to.
+     * @param applications The list of Applications to write.
+     * @param durable      True to fsync the file and its directory.
+     * @param generations  Number of previous versions to keep; 0 keeps none.
+     * @throws IllegalArgumentException if the file cannot be written to or generations is negative.
+     */
+    public static void writeAppsToBinaryFileAtomically(String filename, List<Application> applications,
+            boolean durable, int generations) {
+        AppSaveEvent event = new AppSaveEvent();
+        event.begin();
+        writeAtomically(filename, durable, generations, out -> AppBinaryFormat.write(out, applications));
+        commit(event, filename, "binary", true, durable, applications.size());
+    }
+
+    /**
+     * Commits a save event if Flight Recorder is recording it.
+     *
+     * @param event    The event, begun before writing.
+     * @param filename The name of the file written.
+     * @param format   The format written.
+     * @param atomic   Whether the file was replaced atomically.
+     * @param durable  Whether the file was forced to disk.
+     * @param records  The number of applications written.
+     */
+    private static void commit(AppSaveEvent event, String filename, String format, boolean atomic,
+            boolean durable, int records) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.file = filename;
+            event.format = format;
+            event.atomic = atomic;
+            event.durable = durable;
+            event.records = records;
+            event.bytes = new File(filename).length();
+            event.commit();
+        }
+    }
+
+    /**
+     * Writes a temporary file beside the target with the given content and renames
+     * it over the target. The new file keeps the target's permissions, or gets the
+     * default ones for a new file if there is no target yet. Kept generations are
+     * only shifted once the rename has succeeded.
+     *
+     * @param filename    The name of the file to write to.
+     * @param durable     True to fsync the file and its directory.
+     * @param generations Number of previous versions to keep; 0 keeps none.
+     * @param content     Writes the file content to a stream.
+     * @throws IllegalArgumentException if the file cannot be written to or generations is negative.
+     */
+    private static void writeAtomically(String filename, boolean durable, int generations, Content content) {
+        if (generations < 0) {
+            throw new IllegalArgumentException("Generations cannot be negative.");
+        }
+        Path target = Paths.get(filename).toAbsolutePath();
+        Path temp = null;
+        Path previous = null;
+        try {
+            temp = createSibling(target);
+            copyPermissions(target, temp);
+            try (FileOutputStream out = new FileOutputStream(temp.toFile())) {
+                content.writeTo(out);
+                if (durable) {
+                    out.getChannel().force(true);
+                }
+            }
+            if (generations > 0 && Files.exists(target)) {
+                previous = temp.resolveSibling(temp.getFileName() + ".prev");
+                keepPrevious(target, previous);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            temp = null;
+            if (previous != null) {
+                keepGeneration(target, generations, previous);
+                previous = null;
+            }
+            if (durable) {
+                forceDirectory(target.getParent());
             }
         } catch (IOException e) {
             throw new IllegalArgumentException("Unable to save file.", e);
+        } finally {
+            deleteQuietly(temp);
+            deleteQuietly(previous);
+        }
+    }
+
+    /**
+     * Creates an empty file with a new name beside the target. Unlike
+     * Files.createTempFile, which makes the file readable by its owner only, the
+     * file gets the permissions of any new file.
+     *
+     * @param target The file about to be replaced.
+     * @return The new file.
+     * @throws IOException if the file cannot be created.
+     */
+    private static Path createSibling(Path target) throws IOException {
+        while (true) {
+            Path sibling = target.resolveSibling(target.getFileName() + "."
+                    + Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36) + ".tmp");
+            try {
+                return Files.createFile(sibling);
+            } catch (FileAlreadyExistsException e) {
+                // Taken by another save; try another name
+            }
+        }
+    }
+
+    /**
+     * Gives a new file the POSIX permissions of the file it will replace. Does
+     * nothing if there is no such file or the file system has no POSIX permissions.
+     *
+     * @param target The file about to be replaced.
+     * @param temp   The file replacing it.
+     * @throws IOException if the permissions cannot be read or set.
+     */
+    private static void copyPermissions(Path target, Path temp) throws IOException {
+        if (!Files.exists(target)) {
+            return;
+        }
+        try {
+            Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(target));
+        } catch (UnsupportedOperationException e) {
+            // Not a POSIX file system; the new file keeps its default permissions
+        }
+    }
+
+    /**
+     * Keeps the current target under another name, hard linked where possible, so
+     * it stays in place until the new file replaces it.
+     *
+     * @param target   The file about to be replaced.
+     * @param previous The name to keep it under.
+     * @throws IOException if the file cannot be linked or copied.
+     */
+    private static void keepPrevious(Path target, Path previous) throws IOException {
+        try {
+            Files.createLink(previous, target);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(target, previous);
+        }
+    }
+
+    /**
+     * Shifts filename.1 .. filename.(N-1) up by one, dropping the oldest, and keeps the
+     * replaced target as filename.1.
+     *
+     * @param target      The file just replaced.
+     * @param generations Number of previous versions to keep.
+     * @param previous    The replaced target, kept by keepPrevious.
+     * @throws IOException if a generation cannot be moved.
+     */
+    private static void keepGeneration(Path target, int generations, Path previous) throws IOException {
+        for (int i = generations - 1; i >= 1; i--) {
+            Path older = generation(target, i);
+            if (Files.exists(older)) {
+                Files.move(older, generation(target, i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(previous, generation(target, 1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Deletes a leftover file of a save, ignoring failures.
+     *
+     * @param file The file, or null for none.
+     */
+    private static void deleteQuietly(Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // The save is over; a stray temporary file is harmless
+            }
+        }
+    }
+
+    /**
+     * Gets the path of a kept generation.
+     *
+     * @param target The saved file.
+     * @param number The generation, 1 being the newest.
+     * @return The path of the generation.
+     */
+    private static Path generation(Path target, int number) {
+        return target.resolveSibling(target.getFileName() + "." + number);
+    }
+
+    /**
+     * Flushes a directory so a rename within it is durable. Not every platform allows
+     * opening a directory; there the rename is left to the file system.
+     *
+     * @param dir The directory to flush.
+     */
+    private static void forceDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened for sync on this platform
         }
     }
+
+    /**
+     * Writes a list of Applications in the file format read by AppReader. Each field
+     * is written straight to the writer, so no String is built per record.
+     *
+     * @param writer       The writer to write to; callers should buffer it.
+     * @param applications The list of Applications to write.
+     * @throws IOException if the writer fails.
+     */
+    public static void writeApps(Writer writer, List<Application> applications) throws IOException {
+        char[] digits = new char[11];
+        for (Application app : applications) {
+            writeApp(writer, app, digits);
+        }
+    }
+
+    /**
+     * Writes one Application as a '*' header line followed by a '-' line per note.
+     * Backslashes, commas and line breaks in the summary and reviewer are escaped
+     * with a backslash, and a line inside a note that begins with '*', '-' or a
+     * backslash gets a backslash before it, as AppStreamReader expects.
+     *
+     * @param writer The writer to write to.
+     * @param app    The Application to write.
+     * @param digits Scratch space for formatting the id.
+     * @throws IOException if the writer fails.
+     */
+    static void writeApp(Writer writer, Application app, char[] digits) throws IOException {
+        String resolution = app.getResolution();
+        writeHeader(writer, app.getAppId(), app.getStateName(), app.getAppType(), app.getSummary(),
+                app.getReviewer(), app.isProcessed(), NO_RESOLUTION.equals(resolution) ? null : resolution, digits);
+        app.appendNotesTo(writer, "-", NOTE_MARKS);
+    }
+
+    /**
+     * Writes the '*' header line of a record, escaping the summary and reviewer as
+     * writeApp does.
+     *
+     * @param writer     The writer to write to.
+     * @param id         The application id.
+     * @param state      The state name.
+     * @param type       The type name.
+     * @param summary    The summary.
+     * @param reviewer   The reviewer, or null.
+     * @param processed  Whether the paperwork is processed.
+     * @param resolution The resolution, or null.
+     * @param digits     Scratch space for formatting the id.
+     * @throws IOException if the writer fails.
+     */
+    static void writeHeader(Writer writer, int id, String state, String type, String summary, String reviewer,
+            boolean processed, String resolution, char[] digits) throws IOException {
+        writer.write('*');
+        writeInt(writer, id, digits);
+        writer.write(',');
+        writer.write(state);
+        writer.write(',');
+        writer.write(type);
+        writer.write(',');
+        writeField(writer, summary);
+        writer.write(',');
+        if (reviewer != null) {
+            writeField(writer, reviewer);
+        }
+        writer.write(',');
+        writer.write(processed ? "true" : "false");
+        writer.write(',');
+        if (resolution != null) {
+            writer.write(resolution);
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Writes a '-' note line, and the lines continuing it, escaped as writeApp does.
+     *
+     * @param writer The writer to write to.
+     * @param note   The note.
+     * @throws IOException if the writer fails.
+     */
+    static void writeNote(Writer writer, String note) throws IOException {
+        Application.appendNote(writer, "-", note, NOTE_MARKS);
+    }
+
+    /**
+     * Writes a header field, escaping the characters that would end it early.
+     *
+     * @param writer The writer to write to.
+     * @param value  The field value.
+     * @throws IOException if the writer fails.
+     */
+    private static void writeField(Writer writer, String value) throws IOException {
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            char escaped;
+            switch (c) {
+                case '\\':
+                case ',':
+                    escaped = c;
+                    break;
+                case '\n':
+                    escaped = 'n';
+                    break;
+                case '\r':
+                    escaped = 'r';
+                    break;
+                default:
+                    continue;
+            }
+            writer.write(value, start, i - start);
+            writer.write('\\');
+            writer.write(escaped);
+            start = i + 1;
+        }
+        writer.write(value, start, value.length() - start);
+    }
+
+    /**
+     * Writes the decimal digits of a non-negative int without creating a String.
+     *
+     * @param writer The writer to write to.
+     * @param value  The value to write.
+     * @param digits Scratch space of at least 10 chars.
+     * @throws IOException if the writer fails.
+     */
+    private static void writeInt(Writer writer, int value, char[] digits) throws IOException {
+        int pos = digits.length;
+        do {
+            digits[--pos] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        writer.write(digits, pos, digits.length - pos);
+    }
+
+    /**
+     * Content of a file written by writeAtomically.
+     */
+    private interface Content {
+        /**
+         * Writes the content, flushing any buffering of its own before returning.
+         *
+         * @param out The stream to write to.
+         * @throws IOException if the stream fails.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
 }
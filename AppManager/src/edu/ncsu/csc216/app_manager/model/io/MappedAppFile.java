@@ -0,0 +1,374 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Read-only, memory-mapped view of an application file. Opening the file makes one
+ * pass over the mapped bytes to find where each record starts; nothing is decoded
+ * into Strings. The id, state and type of a record are read straight from the
+ * bytes of its header line, and the summary and notes are only decoded when the
+ * whole Application is requested. Files larger than 2 GB are mapped in segments.
+ */
+public class MappedAppFile implements Closeable {
+
+    /** Log2 of the size of each mapped segment */
+    private static final int SEGMENT_SHIFT = 30;
+    /** Size of each mapped segment */
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    /** Mask selecting the offset within a segment */
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+    /** Index of the state field in a header line */
+    private static final int STATE_FIELD = 1;
+    /** Index of the type field in a header line */
+    private static final int TYPE_FIELD = 2;
+    /** State names a header may hold, in the order they are matched */
+    private static final String[] STATE_NAMES = { Application.REVIEW_NAME, Application.INTERVIEW_NAME,
+        Application.WAITLIST_NAME, Application.REFCHK_NAME, Application.OFFER_NAME, Application.CLOSED_NAME };
+    /** Type names a header may hold, in the order they are matched */
+    private static final String[] TYPE_NAMES = { Application.A_NEW, Application.A_OLD, Application.A_HIRED };
+
+    /** Channel the segments were mapped from */
+    private final FileChannel channel;
+    /** Mapped segments of the file, each SEGMENT_SIZE bytes except the last */
+    private final MappedByteBuffer[] segments;
+    /** Length of the file in bytes */
+    private final long length;
+    /** Offset of the '*' starting each record, plus the file length as a final entry */
+    private long[] recordStarts;
+    /** Number of records */
+    private int size;
+
+    /**
+     * Maps the file and locates its records.
+     *
+     * @param channel The channel to map.
+     * @throws IOException if the file cannot be mapped.
+     * @throws IllegalArgumentException if text appears before the first record.
+     */
+    private MappedAppFile(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.length = channel.size();
+        int count = (int) ((length + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+        this.segments = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long start = (long) i << SEGMENT_SHIFT;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_SIZE, length - start));
+        }
+        findRecords();
+    }
+
+    /**
+     * Opens and maps the given file.
+     *
+     * @param filename The name of the file to map.
+     * @return The mapped file.
+     * @throws IllegalArgumentException if the file cannot be opened or is malformed.
+     */
+    public static MappedAppFile open(String filename) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ);
+            return new MappedAppFile(channel);
+        } catch (IOException | RuntimeException e) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            if (e instanceof IllegalArgumentException) {
+                throw (IllegalArgumentException) e;
+            }
+            throw new IllegalArgumentException("Unable to load file.", e);
+        }
+    }
+
+    /**
+     * Gets the number of records in the file.
+     *
+     * @return The number of records.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Reads the id of a record from its header line.
+     *
+     * @param record The index of the record.
+     * @return The application id.
+     * @throws IllegalArgumentException if the id is not a number.
+     */
+    public int getAppId(int record) {
+        long pos = recordStart(record) + 1;
+        long end = headerEnd(record);
+        while (pos < end && isBlank(byteAt(pos))) {
+            pos++;
+        }
+        boolean negative = pos < end && byteAt(pos) == '-';
+        if (negative) {
+            pos++;
+        }
+        long value = 0;
+        int digits = 0;
+        for (; pos < end; pos++) {
+            byte b = byteAt(pos);
+            if (b < '0' || b > '9') {
+                break;
+            }
+            value = value * 10 + (b - '0');
+            if (++digits > 10) {
+                break;
+            }
+        }
+        while (pos < end && isBlank(byteAt(pos))) {
+            pos++;
+        }
+        if (digits == 0 || digits > 10 || pos >= end || byteAt(pos) != ',' || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Unable to load file.");
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    /**
+     * Reads the state name of a record from its header line.
+     *
+     * @param record The index of the record.
+     * @return One of the state name constants in Application.
+     * @throws IllegalArgumentException if the state is not a known state name.
+     */
+    public String getStateName(int record) {
+        return matchField(record, STATE_FIELD, STATE_NAMES);
+    }
+
+    /**
+     * Reads the application type of a record from its header line.
+     *
+     * @param record The index of the record.
+     * @return One of the type name constants in Application.
+     * @throws IllegalArgumentException if the type is not a known type name.
+     */
+    public String getAppType(int record) {
+        return matchField(record, TYPE_FIELD, TYPE_NAMES);
+    }
+
+    /**
+     * Decodes a whole record, including its summary and notes.
+     *
+     * @param record The index of the record.
+     * @return The Application held by the record.
+     * @throws IllegalArgumentException if the record cannot be processed.
+     */
+    public Application getApplication(int record) {
+        long start = recordStart(record);
+        String text = decode(start, recordStarts[record + 1]);
+        return AppStreamReader.parseRecord(text);
+    }
+
+    /**
+     * Decodes every record in file order.
+     *
+     * @return The Applications held by the file.
+     * @throws IllegalArgumentException if a record cannot be processed.
+     */
+    public List<Application> getApplications() {
+        List<Application> applications = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            applications.add(getApplication(i));
+        }
+        return applications;
+    }
+
+    /**
+     * Gets the offset where a record starts, or the file length for the index
+     * one past the last record. Used to split the file into byte ranges that
+     * fall on record boundaries.
+     *
+     * @param record The index of the record, from 0 to size().
+     * @return The offset of the record.
+     */
+    long recordOffset(int record) {
+        if (record < 0 || record > size) {
+            throw new IndexOutOfBoundsException("Record " + record + " of " + size);
+        }
+        return recordStarts[record];
+    }
+
+    /**
+     * Closes the channel. Mapped segments stay readable until they are collected.
+     *
+     * @throws IOException if the channel cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Scans the mapped bytes for lines starting with '*'.
+     *
+     * @throws IllegalArgumentException if text appears before the first record.
+     */
+    private void findRecords() {
+        recordStarts = new long[16];
+        size = 0;
+        boolean lineStart = true;
+        for (int i = 0; i < segments.length; i++) {
+            MappedByteBuffer segment = segments[i];
+            long base = (long) i << SEGMENT_SHIFT;
+            int limit = segment.limit();
+            for (int offset = 0; offset < limit; offset++) {
+                byte b = segment.get(offset);
+                if (lineStart && b == '*') {
+                    if (size + 1 >= recordStarts.length) {
+                        recordStarts = Arrays.copyOf(recordStarts, recordStarts.length * 2);
+                    }
+                    recordStarts[size++] = base + offset;
+                } else if (size == 0 && !isBlank(b) && b != '\n') {
+                    throw new IllegalArgumentException("Unable to load file.");
+                }
+                lineStart = b == '\n';
+            }
+        }
+        recordStarts[size] = length;
+    }
+
+    /**
+     * Compares a header field against a set of known names without decoding it.
+     *
+     * @param record The index of the record.
+     * @param field  The index of the field in the header.
+     * @param names  The names the field may hold.
+     * @return The matching name.
+     * @throws IllegalArgumentException if the field matches none of the names.
+     */
+    private String matchField(int record, int field, String[] names) {
+        long end = headerEnd(record);
+        long pos = recordStart(record) + 1;
+        for (int i = 0; i < field && pos < end; pos++) {
+            if (byteAt(pos) == ',') {
+                i++;
+            }
+        }
+        long fieldEnd = pos;
+        while (fieldEnd < end && byteAt(fieldEnd) != ',') {
+            fieldEnd++;
+        }
+        while (pos < fieldEnd && isBlank(byteAt(pos))) {
+            pos++;
+        }
+        while (fieldEnd > pos && isBlank(byteAt(fieldEnd - 1))) {
+            fieldEnd--;
+        }
+        for (String name : names) {
+            if (matches(pos, fieldEnd, name)) {
+                return name;
+            }
+        }
+        throw new IllegalArgumentException("Unable to load file.");
+    }
+
+    /**
+     * Checks whether a byte range holds exactly the given ASCII name.
+     *
+     * @param start The first byte of the range.
+     * @param end   One past the last byte of the range.
+     * @param name  The name to compare against.
+     * @return True if the bytes spell the name.
+     */
+    private boolean matches(long start, long end, String name) {
+        if (end - start != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (byteAt(start + i) != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the offset of the '*' starting a record.
+     *
+     * @param record The index of the record.
+     * @return The offset of the record.
+     * @throws IndexOutOfBoundsException if there is no such record.
+     */
+    private long recordStart(int record) {
+        if (record < 0 || record >= size) {
+            throw new IndexOutOfBoundsException("Record " + record + " of " + size);
+        }
+        return recordStarts[record];
+    }
+
+    /**
+     * Finds the end of a record's header line.
+     *
+     * @param record The index of the record.
+     * @return The offset of the line break ending the header, or the end of the record.
+     */
+    private long headerEnd(int record) {
+        long end = recordStarts[record + 1];
+        for (long pos = recordStarts[record]; pos < end; pos++) {
+            byte b = byteAt(pos);
+            if (b == '\n' || b == '\r') {
+                return pos;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Decodes a byte range as UTF-8.
+     *
+     * @param start The first byte of the range.
+     * @param end   One past the last byte of the range.
+     * @return The decoded text.
+     */
+    private String decode(long start, long end) {
+        byte[] bytes = new byte[(int) (end - start)];
+        int copied = 0;
+        while (copied < bytes.length) {
+            long pos = start + copied;
+            MappedByteBuffer segment = segments[(int) (pos >>> SEGMENT_SHIFT)];
+            int offset = (int) (pos & SEGMENT_MASK);
+            int chunk = Math.min(bytes.length - copied, segment.limit() - offset);
+            segment.get(offset, bytes, copied, chunk);
+            copied += chunk;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the byte at a file offset.
+     *
+     * @param pos The file offset.
+     * @return The byte at the offset.
+     */
+    private byte byteAt(long pos) {
+        return segments[(int) (pos >>> SEGMENT_SHIFT)].get((int) (pos & SEGMENT_MASK));
+    }
+
+    /**
+     * Checks for a space, tab or carriage return.
+     *
+     * @param b The byte to check.
+     * @return True if the byte is blank within a line.
+     */
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+}
@@ -0,0 +1,130 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Decodes the records of a mapped application file on a fork-join pool. The file
+ * is split into byte ranges that start and end on record boundaries, and each
+ * range is decoded by its own task into a shared array slot per record, so the
+ * result is in file order however the tasks are scheduled. If records are
+ * invalid, the error for the first invalid record in the file is thrown, as the
+ * serial reader would.
+ */
+class ParallelAppReader {
+
+    /** Ranges at or below this many bytes are decoded without splitting further */
+    private static final long MIN_RANGE_BYTES = 1 << 20;
+
+    /**
+     * Decodes every record of the file.
+     *
+     * @param file The mapped file to decode.
+     * @param pool The pool to run decoding tasks on.
+     * @return The Applications held by the file, in file order.
+     * @throws IllegalArgumentException if a record cannot be processed.
+     */
+    static List<Application> read(MappedAppFile file, ForkJoinPool pool) {
+        Application[] apps = new Application[file.size()];
+        IllegalArgumentException[] errors = new IllegalArgumentException[file.size()];
+        pool.invoke(new DecodeRange(file, apps, errors, 0, file.size()));
+        for (IllegalArgumentException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+        return Arrays.asList(apps);
+    }
+
+    /**
+     * Task decoding the records in [from, to).
+     */
+    private static class DecodeRange extends RecursiveAction {
+        /** ID number used for object serialization. */
+        private static final long serialVersionUID = 1L;
+
+        /** File being decoded */
+        private final transient MappedAppFile file;
+        /** Decoded records, indexed by record */
+        private final transient Application[] apps;
+        /** Errors, indexed by the record that raised them */
+        private final IllegalArgumentException[] errors;
+        /** First record of the range */
+        private final int from;
+        /** One past the last record of the range */
+        private final int to;
+
+        /**
+         * Constructs a task for a range of records.
+         *
+         * @param file   The file being decoded.
+         * @param apps   Array receiving decoded records.
+         * @param errors Array receiving errors.
+         * @param from   The first record of the range.
+         * @param to     One past the last record of the range.
+         */
+        DecodeRange(MappedAppFile file, Application[] apps, IllegalArgumentException[] errors, int from, int to) {
+            this.file = file;
+            this.apps = apps;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Splits the range at the record nearest its byte midpoint, or decodes it
+         * if it is small.
+         */
+        @Override
+        protected void compute() {
+            long start = file.recordOffset(from);
+            long end = file.recordOffset(to);
+            if (to - from < 2 || end - start <= MIN_RANGE_BYTES) {
+                decode();
+                return;
+            }
+            int mid = splitPoint(start + (end - start) / 2);
+            invokeAll(new DecodeRange(file, apps, errors, from, mid),
+                    new DecodeRange(file, apps, errors, mid, to));
+        }
+
+        /**
+         * Finds the first record starting at or after a byte offset, keeping both
+         * halves non-empty.
+         *
+         * @param offset The byte offset to split at.
+         * @return The index of the record to split at.
+         */
+        private int splitPoint(long offset) {
+            int low = from + 1;
+            int high = to - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (file.recordOffset(mid) < offset) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Decodes the range, stopping at its first invalid record.
+         */
+        private void decode() {
+            for (int i = from; i < to; i++) {
+                try {
+                    apps[i] = file.getApplication(i);
+                } catch (IllegalArgumentException e) {
+                    errors[i] = e;
+                    return;
+                }
+            }
+        }
+    }
+}
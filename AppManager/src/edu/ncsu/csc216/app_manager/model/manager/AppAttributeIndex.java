@@ -0,0 +1,180 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Secondary indexes from state name and reviewer to the applications holding
+ * them. Each bucket is an AppIndex, so moving an application
+ * between buckets is O(1) and a query costs O(k log k) for k matches, however
+ * many applications there are in total.
+ * <p>
+ * Each bucket is locked on its own while it is read or changed, so commands on
+ * different applications may move them between state and reviewer buckets at the
+ * same time. A query running beside such a move may miss the application being
+ * moved.
+ */
+class AppAttributeIndex {
+    /** Orders applications by ascending id */
+    private static final Comparator<Application> BY_ID = Comparator.comparingInt(Application::getAppId);
+    /** State names that are indexed */
+    private static final String[] STATE_NAMES = { Application.REVIEW_NAME, Application.INTERVIEW_NAME,
+        Application.WAITLIST_NAME, Application.REFCHK_NAME, Application.OFFER_NAME, Application.CLOSED_NAME };
+
+    /** Applications by state name; the keys never change after construction */
+    private final Map<String, AppIndex> byState = new HashMap<>();
+    /** Applications by reviewer; applications without a reviewer are not indexed */
+    private final Map<String, AppIndex> byReviewer = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs empty indexes.
+     */
+    AppAttributeIndex() {
+        for (String state : STATE_NAMES) {
+            byState.put(state, new AppIndex());
+        }
+    }
+
+    /**
+     * Indexes an application under its current state and reviewer.
+     *
+     * @param app The application to add.
+     */
+    void add(Application app) {
+        put(byState.get(app.getStateName()), app);
+        if (app.getReviewer() != null) {
+            put(byReviewer.computeIfAbsent(app.getReviewer(), r -> new AppIndex()), app);
+        }
+    }
+
+    /**
+     * Removes an application, which must still hold the state and reviewer it was
+     * last indexed under.
+     *
+     * @param app The application to remove.
+     */
+    void remove(Application app) {
+        remove(byState.get(app.getStateName()), app.getAppId());
+        if (app.getReviewer() != null) {
+            remove(byReviewer.get(app.getReviewer()), app.getAppId());
+        }
+    }
+
+    /**
+     * Moves an application to the buckets for its current state and reviewer
+     * after a command may have changed them.
+     *
+     * @param app          The application that changed.
+     * @param oldStateName The state name it was indexed under.
+     * @param oldReviewer  The reviewer it was indexed under, or null.
+     */
+    void update(Application app, String oldStateName, String oldReviewer) {
+        String stateName = app.getStateName();
+        if (!stateName.equals(oldStateName)) {
+            remove(byState.get(oldStateName), app.getAppId());
+            put(byState.get(stateName), app);
+        }
+        String reviewer = app.getReviewer();
+        if (reviewer == null ? oldReviewer != null : !reviewer.equals(oldReviewer)) {
+            if (oldReviewer != null) {
+                remove(byReviewer.get(oldReviewer), app.getAppId());
+            }
+            if (reviewer != null) {
+                put(byReviewer.computeIfAbsent(reviewer, r -> new AppIndex()), app);
+            }
+        }
+    }
+
+    /**
+     * Gets the applications in a state.
+     *
+     * @param stateName The state name.
+     * @return The matching applications in id order.
+     * @throws IllegalArgumentException if the state name is unknown.
+     */
+    List<Application> getByState(String stateName) {
+        AppIndex bucket = byState.get(stateName);
+        if (bucket == null) {
+            throw new IllegalArgumentException("Invalid state name: " + stateName);
+        }
+        return sortedValues(bucket);
+    }
+
+    /**
+     * Gets the applications assigned to a reviewer.
+     *
+     * @param reviewer The reviewer id.
+     * @return The matching applications in id order; empty if there are none.
+     */
+    List<Application> getByReviewer(String reviewer) {
+        return sortedValues(byReviewer.get(reviewer));
+    }
+
+    /**
+     * Counts the applications in each state from the sizes of the state buckets.
+     *
+     * @return The number of applications in each state, keyed by state name in
+     *         the order of the FSM.
+     */
+    Map<String, Integer> countByState() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String state : STATE_NAMES) {
+            AppIndex bucket = byState.get(state);
+            synchronized (bucket) {
+                counts.put(state, bucket.size());
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Adds an application to a bucket.
+     *
+     * @param bucket The bucket.
+     * @param app    The application to add.
+     */
+    private static void put(AppIndex bucket, Application app) {
+        synchronized (bucket) {
+            bucket.put(app);
+        }
+    }
+
+    /**
+     * Removes an application from a bucket. Empty reviewer buckets are kept, as
+     * reviewers are few and are usually assigned again.
+     *
+     * @param bucket The bucket, or null if it was never created.
+     * @param appId  The ID of the application.
+     */
+    private static void remove(AppIndex bucket, int appId) {
+        if (bucket != null) {
+            synchronized (bucket) {
+                bucket.remove(appId);
+            }
+        }
+    }
+
+    /**
+     * Copies a bucket into a list sorted by id.
+     *
+     * @param bucket The bucket, or null for no matches.
+     * @return The applications in the bucket.
+     */
+    private static List<Application> sortedValues(AppIndex bucket) {
+        List<Application> apps = new ArrayList<>();
+        if (bucket != null) {
+            synchronized (bucket) {
+                bucket.addValuesTo(apps);
+            }
+        }
+        apps.sort(BY_ID);
+        return apps;
+    }
+}
@@ -0,0 +1,37 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for an operation on many applications at once, off unless
+ * a recording's settings turn it on.
+ */
+@Name("edu.ncsu.csc216.app_manager.Bulk")
+@Label("Bulk Operation")
+@Category({ "App Manager", "Bulk" })
+@Description("Applications added or commanded together under the list lock")
+@Enabled(false)
+@StackTrace(false)
+final class AppBulkEvent extends Event {
+    /** The operation: addApps or executeCommands */
+    @Label("Operation")
+    String operation;
+
+    /** Number of applications or commands submitted */
+    @Label("Items")
+    int items;
+
+    /** Number of items that failed or were skipped as duplicates */
+    @Label("Failures")
+    int failures;
+
+    /** Whether the work was spread over an executor */
+    @Label("Parallel")
+    boolean parallel;
+}
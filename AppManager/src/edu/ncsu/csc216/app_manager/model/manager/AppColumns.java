@@ -0,0 +1,318 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Column store of the fields of an application list that listing and counting
+ * read, stored as parallel arrays sorted by id: ids as ints, state and type as
+ * byte ordinals, the processed flag as a bitset, summaries as the applications'
+ * own strings and reviewers as codes given to each distinct reviewer name.
+ * Scans over a few primitive arrays replace pointer chasing through one
+ * Application object per row. An AppList only keeps one when it is created with
+ * the COLUMNS storage.
+ * <p>
+ * Structural changes must not overlap with any other call. update takes no lock:
+ * callers updating the same application must hold a common lock, such as the
+ * application's stripe lock, while updates of different applications may run at
+ * once, as they write different rows and set processed bits atomically. Scans may
+ * run beside updates and then see each row from before or after its update.
+ */
+class AppColumns {
+    /** State names by ordinal */
+    static final String[] STATE_NAMES = { Application.REVIEW_NAME, Application.INTERVIEW_NAME,
+        Application.WAITLIST_NAME, Application.REFCHK_NAME, Application.OFFER_NAME, Application.CLOSED_NAME };
+    /** Type names by AppType ordinal */
+    private static final String[] TYPE_NAMES = new String[AppType.values().length];
+    /** Reviewer code for applications without a reviewer */
+    private static final int NO_REVIEWER = 0;
+    /** Atomic access to the words of the processed bitset */
+    private static final VarHandle PROCESSED = MethodHandles.arrayElementVarHandle(long[].class);
+
+    static {
+        for (AppType type : AppType.values()) {
+            TYPE_NAMES[type.ordinal()] = Application.getAppTypeName(type);
+        }
+    }
+
+    /** Application ids, ascending */
+    private int[] ids = new int[16];
+    /** State ordinals */
+    private byte[] states = new byte[16];
+    /** Type ordinals */
+    private byte[] types = new byte[16];
+    /** Processed flags, one bit per row */
+    private long[] processed = new long[1];
+    /** Summaries */
+    private String[] summaries = new String[16];
+    /** Reviewer codes; NO_REVIEWER for applications without a reviewer */
+    private int[] reviewers = new int[16];
+    /** Codes of the reviewer names; read without a lock, added to under itself */
+    private final Map<String, Integer> reviewerCodes = new ConcurrentHashMap<>();
+    /** Code the next new reviewer name gets; guarded by reviewerCodes */
+    private int nextReviewerCode = NO_REVIEWER + 1;
+    /** Number of rows */
+    private int size;
+
+    /**
+     * Gets the ordinal of a state name.
+     *
+     * @param stateName One of the state name constants in Application.
+     * @return The index of the name in STATE_NAMES.
+     * @throws IllegalArgumentException if the state name is unknown.
+     */
+    static int stateOrdinal(String stateName) {
+        for (int i = 0; i < STATE_NAMES.length; i++) {
+            if (STATE_NAMES[i].equals(stateName)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Invalid state name: " + stateName);
+    }
+
+    /**
+     * Inserts a row for an application whose id is not yet present.
+     *
+     * @param app The application to insert.
+     */
+    void insert(Application app) {
+        int position = -(findPosition(app.getAppId()) + 1);
+        ensureCapacity(size + 1);
+        int moved = size - position;
+        System.arraycopy(ids, position, ids, position + 1, moved);
+        System.arraycopy(states, position, states, position + 1, moved);
+        System.arraycopy(types, position, types, position + 1, moved);
+        System.arraycopy(summaries, position, summaries, position + 1, moved);
+        System.arraycopy(reviewers, position, reviewers, position + 1, moved);
+        for (int i = size; i > position; i--) {
+            setProcessed(i, isProcessed(i - 1));
+        }
+        size++;
+        setRow(position, app);
+    }
+
+    /**
+     * Removes the row of an application.
+     *
+     * @param appId The ID of the application.
+     */
+    void remove(int appId) {
+        int position = findPosition(appId);
+        if (position < 0) {
+            return;
+        }
+        int moved = size - position - 1;
+        System.arraycopy(ids, position + 1, ids, position, moved);
+        System.arraycopy(states, position + 1, states, position, moved);
+        System.arraycopy(types, position + 1, types, position, moved);
+        System.arraycopy(summaries, position + 1, summaries, position, moved);
+        System.arraycopy(reviewers, position + 1, reviewers, position, moved);
+        for (int i = position; i < size - 1; i++) {
+            setProcessed(i, isProcessed(i + 1));
+        }
+        size--;
+        summaries[size] = null;
+        setProcessed(size, false);
+    }
+
+    /**
+     * Merges applications sorted by id, sharing no ids with the columns, in a single
+     * pass from the back, so existing rows move at most once.
+     *
+     * @param added The sorted applications to add.
+     */
+    void merge(List<Application> added) {
+        int count = added.size();
+        if (count == 0) {
+            return;
+        }
+        ensureCapacity(size + count);
+        int i = size - 1;
+        int j = count - 1;
+        for (int k = size + count - 1; j >= 0; k--) {
+            if (i >= 0 && ids[i] > added.get(j).getAppId()) {
+                ids[k] = ids[i];
+                states[k] = states[i];
+                types[k] = types[i];
+                summaries[k] = summaries[i];
+                reviewers[k] = reviewers[i];
+                setProcessed(k, isProcessed(i));
+                i--;
+            } else {
+                setRow(k, added.get(j--));
+            }
+        }
+        size += count;
+    }
+
+    /**
+     * Refreshes the row of an application after a command changed its state,
+     * reviewer or processed flag. The caller must hold the lock it updates the
+     * application under.
+     *
+     * @param app The application that changed.
+     */
+    void update(Application app) {
+        int position = findPosition(app.getAppId());
+        if (position >= 0) {
+            setRow(position, app);
+        }
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return The number of rows.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Counts the rows in each state.
+     *
+     * @return Counts indexed by state ordinal.
+     */
+    int[] countByState() {
+        int[] counts = new int[STATE_NAMES.length];
+        for (int i = 0; i < size; i++) {
+            counts[states[i]]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Builds GUI rows of id, state name, type name and summary for the rows that
+     * match the given type, state and reviewer.
+     *
+     * @param type     The type to match, or null for any type.
+     * @param state    The state ordinal to match, or -1 for any state.
+     * @param reviewer The reviewer to match, or null for any reviewer.
+     * @return The matching rows in id order.
+     */
+    Object[][] toRows(AppType type, int state, String reviewer) {
+        int wantType = type == null ? -1 : type.ordinal();
+        int wantReviewer = -1;
+        if (reviewer != null) {
+            Integer code = reviewerCodes.get(reviewer);
+            if (code == null) {
+                return new Object[0][];
+            }
+            wantReviewer = code;
+        }
+        int[] matches = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if ((wantType < 0 || types[i] == wantType) && (state < 0 || states[i] == state)
+                    && (wantReviewer < 0 || reviewers[i] == wantReviewer)) {
+                matches[count++] = i;
+            }
+        }
+        Object[][] rows = new Object[count][];
+        for (int r = 0; r < count; r++) {
+            int i = matches[r];
+            rows[r] = new Object[] { ids[i], STATE_NAMES[states[i]], TYPE_NAMES[types[i]], summaries[i] };
+        }
+        return rows;
+    }
+
+    /**
+     * Writes every column of a row from an application.
+     *
+     * @param position The row.
+     * @param app      The application.
+     */
+    private void setRow(int position, Application app) {
+        ids[position] = app.getAppId();
+        states[position] = (byte) stateOrdinal(app.getStateName());
+        types[position] = (byte) app.getType().ordinal();
+        summaries[position] = app.getSummary();
+        reviewers[position] = reviewerCode(app.getReviewer());
+        setProcessed(position, app.isProcessed());
+    }
+
+    /**
+     * Gets the code of a reviewer, giving the name one if it is new.
+     *
+     * @param reviewer The reviewer, or null.
+     * @return The code.
+     */
+    private int reviewerCode(String reviewer) {
+        if (reviewer == null) {
+            return NO_REVIEWER;
+        }
+        Integer known = reviewerCodes.get(reviewer);
+        if (known != null) {
+            return known;
+        }
+        synchronized (reviewerCodes) {
+            Integer code = reviewerCodes.get(reviewer);
+            if (code == null) {
+                code = nextReviewerCode++;
+                reviewerCodes.put(reviewer, code);
+            }
+            return code;
+        }
+    }
+
+    /**
+     * Reads a processed bit.
+     *
+     * @param position The row.
+     * @return The bit.
+     */
+    private boolean isProcessed(int position) {
+        return (processed[position >>> 6] & (1L << position)) != 0;
+    }
+
+    /**
+     * Writes a processed bit atomically, as the other bits of its word may belong
+     * to applications being updated at the same time.
+     *
+     * @param position The row.
+     * @param value    The bit.
+     */
+    private void setProcessed(int position, boolean value) {
+        if (value) {
+            PROCESSED.getAndBitwiseOr(processed, position >>> 6, 1L << position);
+        } else {
+            PROCESSED.getAndBitwiseAnd(processed, position >>> 6, ~(1L << position));
+        }
+    }
+
+    /**
+     * Grows every column to hold at least the given number of rows.
+     *
+     * @param capacity The number of rows needed.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            int length = Math.max(capacity, ids.length * 2);
+            ids = Arrays.copyOf(ids, length);
+            states = Arrays.copyOf(states, length);
+            types = Arrays.copyOf(types, length);
+            summaries = Arrays.copyOf(summaries, length);
+            reviewers = Arrays.copyOf(reviewers, length);
+        }
+        if (capacity > processed.length * 64) {
+            processed = Arrays.copyOf(processed, Math.max((capacity + 63) >>> 6, processed.length * 2));
+        }
+    }
+
+    /**
+     * Binary searches the id column.
+     *
+     * @param appId The ID of the application.
+     * @return The row if present, otherwise (-(insertion point) - 1).
+     */
+    private int findPosition(int appId) {
+        return Arrays.binarySearch(ids, 0, size, appId);
+    }
+}
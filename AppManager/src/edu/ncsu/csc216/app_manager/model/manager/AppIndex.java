@@ -0,0 +1,193 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+import java.util.List;
+
+/**
+ * Open-addressing hash index from primitive application ids to applications.
+ * Ids are stored unboxed, so lookups do not allocate. Application ids are
+ * always positive, which lets 0 mark an empty slot.
+ */
+class AppIndex {
+    /** Initial number of slots; must be a power of two */
+    private static final int INITIAL_CAPACITY = 16;
+    /** Key marking an empty slot */
+    private static final int EMPTY = 0;
+
+    /** Application ids, one per slot */
+    private int[] keys;
+    /** Applications, parallel to keys */
+    private Application[] values;
+    /** Number of occupied slots */
+    private int size;
+
+    /**
+     * Constructs an empty index.
+     */
+    AppIndex() {
+        clear();
+    }
+
+    /**
+     * Removes every entry from the index.
+     */
+    void clear() {
+        keys = new int[INITIAL_CAPACITY];
+        values = new Application[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Gets the application stored under the given id.
+     *
+     * @param appId The ID of the application.
+     * @return The application, or null if the id is not indexed.
+     */
+    Application get(int appId) {
+        if (appId == EMPTY) {
+            return null;
+        }
+        int mask = keys.length - 1;
+        for (int i = slot(appId, mask); keys[i] != EMPTY; i = (i + 1) & mask) {
+            if (keys[i] == appId) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the given id is indexed.
+     *
+     * @param appId The ID of the application.
+     * @return True if an application with the id is indexed.
+     */
+    boolean contains(int appId) {
+        return get(appId) != null;
+    }
+
+    /**
+     * Indexes an application under its id, replacing any previous entry.
+     *
+     * @param app The application to index.
+     */
+    void put(Application app) {
+        int appId = app.getAppId();
+        if (appId == EMPTY) {
+            throw new IllegalArgumentException("Application cannot be indexed.");
+        }
+        if ((size + 1) * 4 > keys.length * 3) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int i = slot(appId, mask);
+        while (keys[i] != EMPTY) {
+            if (keys[i] == appId) {
+                values[i] = app;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = appId;
+        values[i] = app;
+        size++;
+    }
+
+    /**
+     * Removes the application stored under the given id.
+     *
+     * @param appId The ID of the application.
+     * @return The removed application, or null if the id was not indexed.
+     */
+    Application remove(int appId) {
+        if (appId == EMPTY) {
+            return null;
+        }
+        int mask = keys.length - 1;
+        int i = slot(appId, mask);
+        while (keys[i] != appId) {
+            if (keys[i] == EMPTY) {
+                return null;
+            }
+            i = (i + 1) & mask;
+        }
+        Application removed = values[i];
+        // Shift later entries of the probe chain back so no tombstones are needed
+        int gap = i;
+        for (int j = (gap + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask) {
+            int home = slot(keys[j], mask);
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                keys[gap] = keys[j];
+                values[gap] = values[j];
+                gap = j;
+            }
+        }
+        keys[gap] = EMPTY;
+        values[gap] = null;
+        size--;
+        if (size * 8 < keys.length && keys.length > INITIAL_CAPACITY) {
+            resize(keys.length / 2);
+        }
+        return removed;
+    }
+
+    /**
+     * Gets the number of indexed applications.
+     *
+     * @return The number of entries.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds every indexed application to a list, in no particular order. The table
+     * shrinks as entries are removed, so this runs in time proportional to size().
+     *
+     * @param out The list to add to.
+     */
+    void addValuesTo(List<Application> out) {
+        for (Application value : values) {
+            if (value != null) {
+                out.add(value);
+            }
+        }
+    }
+
+    /**
+     * Resizes the table to the given number of slots and rehashes every entry.
+     *
+     * @param capacity The new number of slots, a power of two.
+     */
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Application[] oldValues = values;
+        keys = new int[capacity];
+        values = new Application[capacity];
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != EMPTY) {
+                int i = slot(oldKeys[j], mask);
+                while (keys[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    /**
+     * Computes the home slot of an id. Ids are usually sequential, so they are
+     * scrambled first to avoid long runs of occupied slots.
+     *
+     * @param appId The ID of the application.
+     * @param mask  The table length minus one.
+     * @return The home slot.
+     */
+    private static int slot(int appId, int mask) {
+        int h = appId * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
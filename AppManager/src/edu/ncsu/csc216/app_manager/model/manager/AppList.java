@@ -5,32 +5,108 @@ import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
 import edu.ncsu.csc216.app_manager.model.command.Command;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * Manages a list of applications and supports various operations.
+ * Manages a list of applications and supports various operations. An AppList is
+ * not thread-safe; AppManager guards it for concurrent use. Applications in the
+ * list must only be changed through executeCommand, which keeps the state and
+ * reviewer indexes in step.
  */
 public class AppList {
-    private List<Application> applications;
+    /**
+     * Where an AppList reads the rows it lists and the states it counts.
+     */
+    public enum Storage {
+        /** From the Application objects and the type, state and reviewer indexes */
+        OBJECTS,
+        /**
+         * From a column store of the listed fields, kept in step with the objects.
+         * Listing and counting become scans over primitive arrays, at the cost of
+         * the memory of the columns and of keeping them up to date on every change.
+         */
+        COLUMNS
+    }
+
+    /** Orders applications by ascending id */
+    private static final Comparator<Application> BY_ID = Comparator.comparingInt(Application::getAppId);
+
+    /** All applications, sorted by id */
+    private SortedAppArray applications;
+    /** Applications partitioned by type, each partition sorted by id */
+    private Map<AppType, SortedAppArray> byType;
+    /** Index from application id to application, kept in step with applications */
+    private AppIndex index;
+    /** Indexes by state and reviewer, kept in step with applications */
+    private AppAttributeIndex attributes;
+    /** Column store of the listed fields, or null when listing reads the objects */
+    private AppColumns columns;
     private int nextAppId;
 
     /**
-     * Constructs a new AppList and resets the counter to 0.
+     * Constructs a new AppList that lists and counts from the Application objects,
+     * and resets the counter to 0.
      */
     public AppList() {
-        this.applications = new ArrayList<>();
+        this(Storage.OBJECTS);
+    }
+
+    /**
+     * Constructs a new AppList and resets the counter to 0.
+     *
+     * @param storage Where listing and counting read from.
+     * @throws IllegalArgumentException if storage is null.
+     */
+    public AppList(Storage storage) {
+        if (storage == null) {
+            throw new IllegalArgumentException("Storage cannot be null.");
+        }
+        this.applications = new SortedAppArray();
+        this.byType = new EnumMap<>(AppType.class);
+        for (AppType type : AppType.values()) {
+            byType.put(type, new SortedAppArray());
+        }
+        this.index = new AppIndex();
+        this.attributes = new AppAttributeIndex();
+        this.columns = storage == Storage.COLUMNS ? new AppColumns() : null;
         this.nextAppId = 0;
     }
 
     /**
      * Adds a collection of applications to the list in sorted order, ignoring duplicates.
+     * The first application seen for an id wins. Loading m applications into a list of
+     * n runs in O(n + m log m) time: duplicates are dropped through the id index, the new
+     * applications are sorted once (in O(m) when they arrive already in id order, as
+     * {@link java.util.List#sort} merges pre-sorted runs), and the result is merged into
+     * the existing list in a single pass.
      *
      * @param apps The list of applications to add.
      */
     public void addApps(List<Application> apps) {
+        List<Application> added = new ArrayList<>(apps.size());
         for (Application app : apps) {
-            addApp(app);
+            if (!index.contains(app.getAppId())) {
+                index.put(app);
+                attributes.add(app);
+                added.add(app);
+            }
+        }
+        added.sort(BY_ID);
+        applications.merge(added);
+        if (columns != null) {
+            columns.merge(added);
+        }
+        Map<AppType, List<Application>> addedByType = new EnumMap<>(AppType.class);
+        for (Application app : added) {
+            addedByType.computeIfAbsent(app.getType(), t -> new ArrayList<>()).add(app);
+        }
+        for (Map.Entry<AppType, List<Application>> partition : addedByType.entrySet()) {
+            byType.get(partition.getKey()).merge(partition.getValue());
         }
         updateNextAppId();
     }
@@ -41,10 +117,25 @@ public class AppList {
      * @param appType The type of the application.
      * @param summary The summary of the application.
      * @param note    The initial note for the application.
+     * @return The application that was added.
      */
-    public void addApp(AppType appType, String summary, String note) {
-        Application app = new Application(nextAppId++, appType, summary, note);
+    public Application addApp(AppType appType, String summary, String note) {
+        Application app = createApp(appType, summary, note);
         addApp(app);
+        return app;
+    }
+
+    /**
+     * Creates an application with the next id without adding it, so the caller
+     * can record it before it is added. The id is used up either way.
+     *
+     * @param appType The type of the application.
+     * @param summary The summary of the application.
+     * @param note    The initial note for the application.
+     * @return The new application.
+     */
+    Application createApp(AppType appType, String summary, String note) {
+        return new Application(nextAppId++, appType, summary, note);
     }
 
     /**
@@ -52,12 +143,17 @@ public class AppList {
      *
      * @param app The application to add.
      */
-    private void addApp(Application app) {
-        if (getAppById(app.getAppId()) != null) {
+    void addApp(Application app) {
+        if (index.contains(app.getAppId())) {
             return; // Ignore duplicate IDs
         }
-        applications.add(app);
-        Collections.sort(applications, (a1, a2) -> Integer.compare(a1.getAppId(), a2.getAppId()));
+        applications.insert(app);
+        if (columns != null) {
+            columns.insert(app);
+        }
+        byType.get(app.getType()).insert(app);
+        index.put(app);
+        attributes.add(app);
     }
 
     /**
@@ -66,7 +162,15 @@ public class AppList {
      * @param appId The ID of the application to remove.
      */
     public void deleteAppById(int appId) {
-        applications.removeIf(app -> app.getAppId() == appId);
+        Application removed = index.remove(appId);
+        if (removed != null) {
+            attributes.remove(removed);
+            applications.remove(appId);
+            if (columns != null) {
+                columns.remove(appId);
+            }
+            byType.get(removed.getType()).remove(appId);
+        }
     }
 
     /**
@@ -76,10 +180,7 @@ public class AppList {
      * @return The application if found, otherwise null.
      */
     public Application getAppById(int appId) {
-        return applications.stream()
-                .filter(app -> app.getAppId() == appId)
-                .findFirst()
-                .orElse(null);
+        return index.get(appId);
     }
 
     /**
@@ -91,41 +192,176 @@ public class AppList {
     public void executeCommand(int appId, Command command) {
         Application app = getAppById(appId);
         if (app != null) {
-            app.update(command);
+            executeCommand(app, command);
         }
     }
 
     /**
-     * Returns the entire list of applications.
+     * Executes a command on an application already looked up in this list, and
+     * moves it between the state and reviewer indexes if the command changed them.
+     * Commands on different applications may run at the same time; commands on the
+     * same application must hold a common lock. A rejected command changes
+     * nothing, so the indexes are only touched once it has succeeded.
+     *
+     * @param app     An application in this list.
+     * @param command The command to execute.
+     * @throws UnsupportedOperationException if the command is invalid for the current state.
+     */
+    void executeCommand(Application app, Command command) {
+        String stateName = app.getStateName();
+        String reviewer = app.getReviewer();
+        app.update(command);
+        attributes.update(app, stateName, reviewer);
+        if (columns != null) {
+            columns.update(app);
+        }
+    }
+
+    /**
+     * Gets the number of applications in the list.
+     *
+     * @return The number of applications.
+     */
+    public int size() {
+        return applications.size();
+    }
+
+    /**
+     * Returns the entire list of applications as a read-only snapshot. Taking a
+     * snapshot copies nothing; it keeps showing the list as it was, however the
+     * list changes afterwards, because the next insert or delete copies the backing
+     * array once instead. Appends past the end of the snapshot need no copy.
      *
-     * @return A list of all applications.
+     * @return An unmodifiable list of all applications.
      */
     public List<Application> getApplications() {
-        return new ArrayList<>(applications);
+        return applications.snapshot();
     }
 
     /**
-     * Returns a list of applications filtered by application type.
+     * Returns a list of applications filtered by application type. The list is a
+     * read-only snapshot of the type's partition, taken in O(1) like getApplications.
      *
      * @param appType The application type to filter by.
-     * @return A list of applications matching the type.
+     * @return An unmodifiable list of applications matching the type, in id order.
      */
     public List<Application> getApplicationsByType(AppType appType) {
-        List<Application> filteredApps = new ArrayList<>();
-        for (Application app : applications) {
-            if (app.getAppType().equals(appType.name())) {
-                filteredApps.add(app);
+        if (appType == null) {
+            throw new IllegalArgumentException("Application type cannot be null.");
+        }
+        return byType.get(appType).snapshot();
+    }
+
+    /**
+     * Returns a list of applications in a state. Runs in time proportional to the
+     * number of matches.
+     *
+     * @param stateName The state name, one of the state name constants in Application.
+     * @return A list of applications in the state, in id order.
+     * @throws IllegalArgumentException if the state name is unknown.
+     */
+    public List<Application> getApplicationsByState(String stateName) {
+        return attributes.getByState(stateName);
+    }
+
+    /**
+     * Returns a list of applications assigned to a reviewer. Runs in time
+     * proportional to the number of matches.
+     *
+     * @param reviewer The reviewer id.
+     * @return A list of the reviewer's applications, in id order.
+     */
+    public List<Application> getApplicationsByReviewer(String reviewer) {
+        return attributes.getByReviewer(reviewer);
+    }
+
+    /**
+     * Gets where this list reads the rows it lists and the states it counts.
+     *
+     * @return The storage chosen when the list was created.
+     */
+    public Storage getStorage() {
+        return columns == null ? Storage.OBJECTS : Storage.COLUMNS;
+    }
+
+    /**
+     * Builds a row of id, state name, type name and summary for each application
+     * matching the given filters.
+     *
+     * @param appType   The type to match, or null for every type.
+     * @param stateName The state name to match, or null for every state.
+     * @return The matching rows in id order.
+     * @throws IllegalArgumentException if the state name is unknown.
+     */
+    public Object[][] getApplicationsAsArray(AppType appType, String stateName) {
+        return getApplicationsAsArray(appType, stateName, null);
+    }
+
+    /**
+     * Builds a row of id, state name, type name and summary for each application
+     * matching the given filters. With COLUMNS storage this is one scan over the
+     * columns. Otherwise the rows are built from the smallest index covering the
+     * filters: the reviewer's or the state's applications, the type's partition,
+     * or the whole list.
+     *
+     * @param appType   The type to match, or null for every type.
+     * @param stateName The state name to match, or null for every state.
+     * @param reviewer  The reviewer to match, or null for any reviewer.
+     * @return The matching rows in id order.
+     * @throws IllegalArgumentException if the state name is unknown.
+     */
+    public Object[][] getApplicationsAsArray(AppType appType, String stateName, String reviewer) {
+        int state = stateName == null ? -1 : AppColumns.stateOrdinal(stateName);
+        if (columns != null) {
+            return columns.toRows(appType, state, reviewer);
+        }
+        List<Application> source;
+        if (reviewer != null) {
+            source = attributes.getByReviewer(reviewer);
+        } else if (stateName != null) {
+            source = attributes.getByState(stateName);
+        } else if (appType != null) {
+            source = byType.get(appType).snapshot();
+        } else {
+            source = applications.snapshot();
+        }
+        Object[][] rows = new Object[source.size()][];
+        int count = 0;
+        for (int i = 0; i < source.size(); i++) {
+            Application app = source.get(i);
+            String appState = app.getStateName();
+            if ((appType == null || app.getType() == appType) && (stateName == null || stateName.equals(appState))) {
+                rows[count++] = new Object[] { app.getAppId(), appState, app.getAppType(), app.getSummary() };
             }
         }
-        return filteredApps;
+        return count == rows.length ? rows : Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Counts the applications in each state, with one pass over the state column
+     * with COLUMNS storage and from the sizes of the state index otherwise.
+     *
+     * @return The number of applications in each state, keyed by state name in
+     *         the order of the FSM, including states with none.
+     */
+    public Map<String, Integer> countByState() {
+        if (columns == null) {
+            return attributes.countByState();
+        }
+        int[] counts = columns.countByState();
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            result.put(AppColumns.STATE_NAMES[i], counts[i]);
+        }
+        return result;
     }
 
     /**
      * Updates the next application ID based on the current list.
      */
     private void updateNextAppId() {
-        if (!applications.isEmpty()) {
-            nextAppId = applications.get(applications.size() - 1).getAppId() + 1;
+        if (applications.size() > 0) {
+            nextAppId = applications.last().getAppId() + 1;
         }
     }
 }
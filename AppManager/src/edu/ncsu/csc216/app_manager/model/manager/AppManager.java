@@ -3,23 +3,81 @@ package edu.ncsu.csc216.app_manager.model.manager;
 import edu.ncsu.csc216.app_manager.model.application.Application;
 import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
 import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.io.AppJournal;
 import edu.ncsu.csc216.app_manager.model.io.AppReader;
 import edu.ncsu.csc216.app_manager.model.io.AppWriter;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Singleton class that manages AppLists and file operations.
+ * <p>
+ * The manager is safe to use from several threads. Commands take the list lock
+ * shared plus the stripe lock of their application, so commands on applications
+ * in different stripes run in parallel. Adding, deleting, loading and saving take
+ * the list lock exclusively, so they never see a command half way through and
+ * always see the whole list in one consistent state. Listing takes the list lock
+ * shared: it reads a snapshot of the list, which always holds the same
+ * applications, and runs alongside commands.
  */
 public class AppManager {
-    private static AppManager instance;
+    /** Journal entries written before the journal is compacted into a snapshot by default */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 10_000;
+    /** Suffix added to a snapshot file name to name its journal */
+    public static final String JOURNAL_SUFFIX = ".journal";
+
+    /** Number of stripe locks guarding individual applications; a power of two */
+    private static final int STRIPES = 64;
+    /** Batches smaller than this are executed on the calling thread */
+    private static final int PARALLEL_BATCH_SIZE = 256;
+
     private AppList appList;
+    /** Held shared by commands and listing, and exclusively by everything else that reads or changes the whole list */
+    private final ReentrantReadWriteLock listLock = new ReentrantReadWriteLock();
+    /** Locks guarding applications, chosen by application id */
+    private final Lock[] stripes = new Lock[STRIPES];
+    /** Journal recording changes since the snapshot was saved, or null when not journaling */
+    private AppJournal journal;
+    /** Snapshot file the journal belongs to */
+    private String snapshotFile;
+    /** Whether the journal and its snapshots are fsynced */
+    private boolean durableJournal;
+    /** Journal entries written before the journal is compacted; volatile as commands read it unlocked */
+    private volatile int compactionThreshold = DEFAULT_COMPACTION_THRESHOLD;
+    /** Error of the last compaction started by the threshold, or null; written under the list lock */
+    private volatile IllegalArgumentException compactionFailure;
+    /** Latencies, counts and gauges of this manager */
+    private final AppMetrics metrics = new AppMetrics(this::listSize);
 
     /**
      * Private constructor for Singleton pattern.
      */
     private AppManager() {
         appList = new AppList();
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Holds the instance. The JVM initializes the holder class once, on the first
+     * call to getInstance, and publishes the instance safely to every thread.
+     */
+    private static class InstanceHolder {
+        /** The single AppManager */
+        private static final AppManager INSTANCE = new AppManager();
     }
 
     /**
@@ -28,17 +86,55 @@ public class AppManager {
      * @return The AppManager instance.
      */
     public static AppManager getInstance() {
-        if (instance == null) {
-            instance = new AppManager();
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Gets the metrics of this manager. Call register on them to publish them over JMX.
+     *
+     * @return The metrics.
+     */
+    public AppMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Gets the number of applications in the list, for the metrics gauge.
+     *
+     * @return The number of applications.
+     */
+    private int listSize() {
+        listLock.readLock().lock();
+        try {
+            return appList.size();
+        } finally {
+            listLock.readLock().unlock();
         }
-        return instance;
     }
 
     /**
-     * Creates a new AppList.
+     * Creates a new AppList that lists from the Application objects. Any open
+     * journal is closed, as it belongs to the old list.
      */
     public void createNewAppList() {
-        appList = new AppList();
+        createNewAppList(AppList.Storage.OBJECTS);
+    }
+
+    /**
+     * Creates a new AppList with the given storage. Any open journal is closed, as
+     * it belongs to the old list.
+     *
+     * @param storage Where the list reads the rows it lists and the states it counts.
+     * @throws IllegalArgumentException if storage is null.
+     */
+    public void createNewAppList(AppList.Storage storage) {
+        listLock.writeLock().lock();
+        try {
+            closeJournal();
+            appList = new AppList(storage);
+        } finally {
+            listLock.writeLock().unlock();
+        }
     }
 
     /**
@@ -49,7 +145,178 @@ public class AppManager {
      * @param note    The initial note for the application.
      */
     public void addAppToList(AppType appType, String summary, String note) {
-        appList.addApp(appType, summary, note);
+        listLock.writeLock().lock();
+        try {
+            Application app = appList.createApp(appType, summary, note);
+            if (journal != null) {
+                journal.logAdd(app);
+            }
+            appList.addApp(app);
+            compactIfNeeded();
+        } finally {
+            listLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Opens a snapshot file with journaling. The list is replaced by one with the
+     * same storage holding the snapshot, if it exists, with the changes in its
+     * journal (the snapshot file name plus JOURNAL_SUFFIX) replayed on top. The new
+     * list is built and its journal opened before anything is replaced, so if the
+     * snapshot or journal cannot be read, the current list and journal are kept.
+     * From then on every add, delete and command is written to the journal before
+     * it changes the list; if the entry cannot be written, the change is not made
+     * and the error is thrown. The journal is folded into a new snapshot once it
+     * holds the compaction threshold's worth of entries.
+     *
+     * @param filename The snapshot file.
+     * @param durable  True to fsync every journal entry and snapshot.
+     * @throws IllegalArgumentException if the snapshot or journal cannot be read or opened.
+     */
+    public void openJournaled(String filename, boolean durable) {
+        listLock.writeLock().lock();
+        try {
+            AppList loaded = new AppList(appList.getStorage());
+            if (new File(filename).exists()) {
+                loaded.addApps(AppReader.readAppsFromFile(filename));
+            }
+            List<Application> single = new ArrayList<>(1);
+            AppJournal.replay(filename + JOURNAL_SUFFIX, app -> {
+                loaded.deleteAppById(app.getAppId());
+                single.clear();
+                single.add(app);
+                loaded.addApps(single);
+            }, loaded::deleteAppById);
+            AppJournal opened = new AppJournal(filename + JOURNAL_SUFFIX, durable);
+            try {
+                closeJournal();
+            } catch (IllegalArgumentException e) {
+                try {
+                    opened.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+            appList = loaded;
+            snapshotFile = filename;
+            durableJournal = durable;
+            journal = opened;
+        } finally {
+            listLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Saves the whole list as the journal's snapshot and empties the journal. The
+     * journal is only cleared once the snapshot has replaced the old one.
+     *
+     * @throws IllegalStateException if no journal is open.
+     */
+    public void compactJournal() {
+        listLock.writeLock().lock();
+        try {
+            if (journal == null) {
+                throw new IllegalStateException("No journal is open.");
+            }
+            saveAppsToFile(snapshotFile, durableJournal, 0);
+            journal.clear();
+            compactionFailure = null;
+        } finally {
+            listLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sets how many journal entries are written before the journal is compacted.
+     *
+     * @param entries The number of entries; must be positive.
+     */
+    public void setCompactionThreshold(int entries) {
+        if (entries < 1) {
+            throw new IllegalArgumentException("Compaction threshold must be positive.");
+        }
+        listLock.writeLock().lock();
+        try {
+            compactionThreshold = entries;
+        } finally {
+            listLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Compacts and closes the journal, if one is open.
+     */
+    public void closeJournal() {
+        listLock.writeLock().lock();
+        try {
+            if (journal == null) {
+                return;
+            }
+            AppJournal closing = journal;
+            try {
+                compactJournal();
+            } finally {
+                journal = null;
+                snapshotFile = null;
+                try {
+                    closing.close();
+                } catch (IOException e) {
+                    throw new IllegalArgumentException("Unable to close journal.", e);
+                }
+            }
+        } finally {
+            listLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the error that stopped the last compaction started by reaching the
+     * compaction threshold. Such a compaction runs after a change has been
+     * journaled and made, so its failure is not thrown to the caller of the change;
+     * the journal keeps every entry and compaction is tried again after the next
+     * one.
+     *
+     * @return The error, or null if the last compaction succeeded.
+     */
+    public IllegalArgumentException getCompactionFailure() {
+        return compactionFailure;
+    }
+
+    /**
+     * Compacts the journal once it reaches the compaction threshold. A failure is
+     * kept for getCompactionFailure rather than thrown. Must be called with the
+     * list lock held exclusively.
+     */
+    private void compactIfNeeded() {
+        if (journal != null && journal.getEntryCount() >= compactionThreshold) {
+            try {
+                compactJournal();
+            } catch (IllegalArgumentException e) {
+                compactionFailure = e;
+            }
+        }
+    }
+
+    /**
+     * Compacts a journal commands were just written to, if it has reached the
+     * compaction threshold. The entry count is read without any lock, so commands
+     * only take the list lock exclusively, and wait for readers to drain, when a
+     * compaction is due; the count is checked again under the lock, as another
+     * command may have compacted the journal meanwhile.
+     *
+     * @param written The journal the commands were written to, or null if they were not journaled.
+     */
+    private void compactIfDue(AppJournal written) {
+        if (written == null || written.getEntryCount() < compactionThreshold) {
+            return;
+        }
+        listLock.writeLock().lock();
+        try {
+            compactIfNeeded();
+        } finally {
+            listLock.writeLock().unlock();
+        }
     }
 
     /**
@@ -58,17 +325,92 @@ public class AppManager {
      * @param filename The file to load applications from.
      */
     public void loadAppsFromFile(String filename) {
-        List<Application> apps = AppReader.readAppsFromFile(filename);
-        appList.addApps(apps);
+        loadAppsFromFile(filename, false);
+    }
+
+    /**
+     * Loads applications from a file, optionally decoding records in parallel on
+     * the common fork-join pool. Both modes add the same applications and raise
+     * the same errors.
+     *
+     * @param filename The file to load applications from.
+     * @param parallel True to decode records across cores.
+     */
+    public void loadAppsFromFile(String filename, boolean parallel) {
+        long start = metrics.start();
+        try {
+            List<Application> apps = parallel
+                    ? AppReader.readAppsFromFileInParallel(filename, ForkJoinPool.commonPool())
+                    : AppReader.readAppsFromFile(filename);
+            listLock.writeLock().lock();
+            try {
+                AppBulkEvent event = new AppBulkEvent();
+                event.begin();
+                int before = appList.size();
+                appList.addApps(apps);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.operation = "addApps";
+                    event.items = apps.size();
+                    event.failures = apps.size() - (appList.size() - before);
+                    event.commit();
+                }
+                if (journal != null) {
+                    compactJournal();
+                }
+            } finally {
+                listLock.writeLock().unlock();
+            }
+        } finally {
+            metrics.recordLoad(start);
+        }
     }
 
     /**
-     * Saves applications to a file.
+     * Saves applications to a file. The file is replaced atomically, so a failed
+     * save leaves the previous contents in place.
      *
      * @param filename The file to save applications to.
      */
     public void saveAppsToFile(String filename) {
-        AppWriter.writeAppsToFile(filename, appList.getApplications());
+        saveAppsToFile(filename, false, 0);
+    }
+
+    /**
+     * Saves applications to a file, replacing it atomically.
+     *
+     * @param filename    The file to save applications to.
+     * @param durable     True to fsync the saved file before returning.
+     * @param generations Number of previous versions of the file to keep.
+     */
+    public void saveAppsToFile(String filename, boolean durable, int generations) {
+        long start = metrics.start();
+        listLock.writeLock().lock();
+        try {
+            AppWriter.writeAppsToFileAtomically(filename, appList.getApplications(), durable, generations);
+        } finally {
+            listLock.writeLock().unlock();
+            metrics.recordSave(start);
+        }
+    }
+
+    /**
+     * Saves applications to a file in the binary snapshot format, replacing it
+     * atomically. loadAppsFromFile recognises the format automatically.
+     *
+     * @param filename    The file to save applications to.
+     * @param durable     True to fsync the saved file before returning.
+     * @param generations Number of previous versions of the file to keep.
+     */
+    public void saveAppsToBinaryFile(String filename, boolean durable, int generations) {
+        long start = metrics.start();
+        listLock.writeLock().lock();
+        try {
+            AppWriter.writeAppsToBinaryFileAtomically(filename, appList.getApplications(), durable, generations);
+        } finally {
+            listLock.writeLock().unlock();
+            metrics.recordSave(start);
+        }
     }
 
     /**
@@ -77,7 +419,16 @@ public class AppManager {
      * @param appId The ID of the application to delete.
      */
     public void deleteAppById(int appId) {
-        appList.deleteAppById(appId);
+        listLock.writeLock().lock();
+        try {
+            if (journal != null) {
+                journal.logDelete(appId);
+            }
+            appList.deleteAppById(appId);
+            compactIfNeeded();
+        } finally {
+            listLock.writeLock().unlock();
+        }
     }
 
     /**
@@ -87,7 +438,14 @@ public class AppManager {
      * @return The application if found, otherwise null.
      */
     public Application getAppById(int appId) {
-        return appList.getAppById(appId);
+        long start = metrics.startSampled();
+        listLock.readLock().lock();
+        try {
+            return appList.getAppById(appId);
+        } finally {
+            listLock.readLock().unlock();
+            metrics.recordLookup(start);
+        }
     }
 
     /**
@@ -97,7 +455,212 @@ public class AppManager {
      * @param command The command to execute.
      */
     public void executeCommand(int appId, Command command) {
-        appList.executeCommand(appId, command);
+        AppJournal journaled = null;
+        Lock stripe = stripeFor(appId);
+        long start = metrics.startSampled();
+        listLock.readLock().lock();
+        try {
+            stripe.lock();
+            try {
+                Application app = appList.getAppById(appId);
+                if (app != null) {
+                    if (journal != null) {
+                        journal.logCommand(app.preview(command), command);
+                        journaled = journal;
+                    }
+                    appList.executeCommand(app, command);
+                }
+            } finally {
+                stripe.unlock();
+            }
+        } finally {
+            listLock.readLock().unlock();
+            metrics.recordCommand(start);
+        }
+        compactIfDue(journaled);
+    }
+
+    /**
+     * Executes a batch of commands on the calling thread. Equivalent to
+     * executeCommands(batch, null).
+     *
+     * @param batch The commands to execute.
+     * @return The outcome of each command.
+     */
+    public BatchResult executeCommands(CommandBatch batch) {
+        return executeCommands(batch, null);
+    }
+
+    /**
+     * Executes a batch of commands. Every id is resolved in one pass while the list
+     * is held steady, then each command is applied to its application's state. A
+     * command that fails, because its application does not exist or its state does
+     * not accept it, is recorded in the result and the rest of the batch carries on.
+     * Commands for the same application are applied in batch order; commands for
+     * different applications may be applied in any order.
+     * <p>
+     * Given an executor, a large batch is split by stripe lock and the stripes are
+     * executed in parallel, each taking its lock once for all its commands. The
+     * batch blocks adding, deleting and listing until it finishes.
+     *
+     * @param batch    The commands to execute.
+     * @param executor Executor to fan out across, or null to use the calling thread.
+     * @return The outcome of each command.
+     */
+    public BatchResult executeCommands(CommandBatch batch, ExecutorService executor) {
+        int size = batch.size();
+        BatchResult result = new BatchResult(size);
+        AppJournal journaled;
+        long start = metrics.start();
+        AppBulkEvent event = new AppBulkEvent();
+        event.begin();
+        listLock.readLock().lock();
+        try {
+            Application[] apps = new Application[size];
+            for (int i = 0; i < size; i++) {
+                apps[i] = appList.getAppById(batch.getAppId(i));
+            }
+            journaled = journal;
+            if (executor == null || size < PARALLEL_BATCH_SIZE) {
+                for (int i = 0; i < size; i++) {
+                    Lock stripe = stripeFor(batch.getAppId(i));
+                    stripe.lock();
+                    try {
+                        applyBatchItem(batch, i, apps[i], result);
+                    } finally {
+                        stripe.unlock();
+                    }
+                }
+            } else {
+                executeInParallel(batch, apps, result, executor);
+            }
+        } finally {
+            listLock.readLock().unlock();
+            metrics.recordBatch(start);
+        }
+        result.finish();
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = "executeCommands";
+            event.items = size;
+            event.failures = result.getFailureCount();
+            event.parallel = executor != null && size >= PARALLEL_BATCH_SIZE;
+            event.commit();
+        }
+        compactIfDue(journaled);
+        return result;
+    }
+
+    /**
+     * Splits a batch by stripe and applies each stripe's commands in one task.
+     *
+     * @param batch    The commands to execute.
+     * @param apps     The application each command is addressed to, or null.
+     * @param result   Receives failures.
+     * @param executor Executor to run the tasks on.
+     */
+    private void executeInParallel(CommandBatch batch, Application[] apps, BatchResult result,
+            ExecutorService executor) {
+        int[] counts = new int[STRIPES + 1];
+        int[] stripeOf = new int[apps.length];
+        for (int i = 0; i < apps.length; i++) {
+            stripeOf[i] = stripeIndex(batch.getAppId(i));
+            counts[stripeOf[i] + 1]++;
+        }
+        for (int s = 0; s < STRIPES; s++) {
+            counts[s + 1] += counts[s];
+        }
+        int[] starts = counts.clone();
+        int[] items = new int[apps.length];
+        for (int i = 0; i < apps.length; i++) {
+            items[counts[stripeOf[i]]++] = i;
+        }
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int s = 0; s < STRIPES; s++) {
+            int stripe = s;
+            if (starts[s] == starts[s + 1]) {
+                continue;
+            }
+            tasks.add(() -> {
+                stripes[stripe].lock();
+                try {
+                    for (int k = starts[stripe]; k < starts[stripe + 1]; k++) {
+                        applyBatchItem(batch, items[k], apps[items[k]], result);
+                    }
+                } finally {
+                    stripes[stripe].unlock();
+                }
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> task : executor.invokeAll(tasks)) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while executing commands.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Applies one command of a batch with its stripe lock held, recording a failure
+     * instead of throwing it. A failure to write the journal is thrown, before the
+     * command takes effect.
+     *
+     * @param batch  The batch.
+     * @param item   The position of the command in the batch.
+     * @param app    The application the command is addressed to, or null if there is none.
+     * @param result Receives a failure.
+     */
+    private void applyBatchItem(CommandBatch batch, int item, Application app, BatchResult result) {
+        if (app == null) {
+            result.fail(item, new IllegalArgumentException("Application not found."));
+            return;
+        }
+        Command command = batch.getCommand(item);
+        if (journal != null) {
+            Application next;
+            try {
+                next = app.preview(command);
+            } catch (UnsupportedOperationException | IllegalArgumentException e) {
+                result.fail(item, e);
+                return;
+            }
+            journal.logCommand(next, command);
+        }
+        try {
+            appList.executeCommand(app, command);
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            result.fail(item, e);
+        }
+    }
+
+    /**
+     * Gets the stripe lock guarding an application. Ids are spread over the stripes
+     * so that consecutive ids land on different locks.
+     *
+     * @param appId The ID of the application.
+     * @return The lock for the application.
+     */
+    private Lock stripeFor(int appId) {
+        return stripes[stripeIndex(appId)];
+    }
+
+    /**
+     * Gets the index of the stripe lock guarding an application.
+     *
+     * @param appId The ID of the application.
+     * @return The index into stripes.
+     */
+    private static int stripeIndex(int appId) {
+        int h = appId * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
     }
 
     /**
@@ -106,39 +669,107 @@ public class AppManager {
      * @return A 2D Object array of applications.
      */
     public Object[][] getAppListAsArray() {
-        List<Application> apps = appList.getApplications();
-        return convertAppsToArray(apps);
+        return getAppListAsArray(null, null);
+    }
+
+    /**
+     * Gets a 2D array of the applications matching a type and a state for the GUI.
+     * Every listing method builds its rows here, from the list's storage.
+     *
+     * @param appType   The type to match, or null for every type.
+     * @param stateName The state name to match, or null for every state.
+     * @return A 2D Object array of the matching applications.
+     * @throws IllegalArgumentException if the state name is unknown.
+     */
+    public Object[][] getAppListAsArray(AppType appType, String stateName) {
+        return getAppListAsArray(appType, stateName, null);
+    }
+
+    /**
+     * Builds rows for the GUI under the list lock.
+     *
+     * @param appType   The type to match, or null for every type.
+     * @param stateName The state name to match, or null for every state.
+     * @param reviewer  The reviewer to match, or null for any reviewer.
+     * @return A 2D Object array of the matching applications.
+     * @throws IllegalArgumentException if the state name is unknown.
+     */
+    private Object[][] getAppListAsArray(AppType appType, String stateName, String reviewer) {
+        listLock.readLock().lock();
+        try {
+            return appList.getApplicationsAsArray(appType, stateName, reviewer);
+        } finally {
+            listLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the applications in each state.
+     *
+     * @return The number of applications in each state, keyed by state name.
+     */
+    public Map<String, Integer> getStateCounts() {
+        listLock.readLock().lock();
+        try {
+            return appList.countByState();
+        } finally {
+            listLock.readLock().unlock();
+        }
     }
 
     /**
      * Gets a 2D array of applications by type for the GUI.
      *
-     * @param appType The application type.
+     * @param appType The application type name, such as "New" or "NEW".
      * @return A 2D Object array of applications matching the type.
+     * @throws IllegalArgumentException if the type is null or not an application type.
      */
     public Object[][] getAppListAsArrayByAppType(String appType) {
         if (appType == null) {
             throw new IllegalArgumentException("Application type cannot be null.");
         }
-        List<Application> apps = appList.getApplicationsByType(AppType.valueOf(appType.toUpperCase()));
-        return convertAppsToArray(apps);
+        return getAppListAsArrayByAppType(AppType.valueOf(appType.toUpperCase()));
+    }
+
+    /**
+     * Gets a 2D array of applications by type for the GUI. The type is matched by
+     * its enum constant, without comparing type names.
+     *
+     * @param appType The application type.
+     * @return A 2D Object array of applications matching the type.
+     * @throws IllegalArgumentException if the type is null.
+     */
+    public Object[][] getAppListAsArrayByAppType(AppType appType) {
+        if (appType == null) {
+            throw new IllegalArgumentException("Application type cannot be null.");
+        }
+        return getAppListAsArray(appType, null, null);
+    }
+
+    /**
+     * Gets a 2D array of the applications in a state for the GUI.
+     *
+     * @param stateName The state name, one of the state name constants in Application.
+     * @return A 2D Object array of applications in the state.
+     * @throws IllegalArgumentException if the state name is unknown.
+     */
+    public Object[][] getAppListAsArrayByState(String stateName) {
+        if (stateName == null) {
+            throw new IllegalArgumentException("Invalid state name: null");
+        }
+        return getAppListAsArray(null, stateName, null);
     }
 
     /**
-     * Converts a list of applications to a 2D Object array.
+     * Gets a 2D array of the applications assigned to a reviewer for the GUI.
      *
-     * @param apps The list of applications.
-     * @return A 2D Object array.
+     * @param reviewer The reviewer id.
+     * @return A 2D Object array of the reviewer's applications; empty for a null reviewer.
      */
-    private Object[][] convertAppsToArray(List<Application> apps) {
-        Object[][] array = new Object[apps.size()][4];
-        for (int i = 0; i < apps.size(); i++) {
-            Application app = apps.get(i);
-            array[i][0] = app.getAppId();
-            array[i][1] = app.getStateName();
-            array[i][2] = app.getAppType();
-            array[i][3] = app.getSummary();
+    public Object[][] getAppListAsArrayByReviewer(String reviewer) {
+        if (reviewer == null) {
+            return new Object[0][];
         }
-        return array;
+        return getAppListAsArray(null, null, reviewer);
     }
 }
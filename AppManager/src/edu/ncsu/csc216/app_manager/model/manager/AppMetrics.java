@@ -0,0 +1,305 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.NotesArena;
+import edu.ncsu.csc216.app_manager.model.application.TransitionCounts;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntSupplier;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Operational metrics of an AppManager: latency histograms of loads, saves,
+ * lookups, commands and batches, counts of FSM transitions and rejections, and
+ * gauges of the list size and memory. They can be read in code, as a plain-text
+ * dump or over JMX once register has been called.
+ * <p>
+ * Loads, saves and batches are timed every time. Lookups and commands take tens of
+ * nanoseconds, about as long as reading the clock twice or bumping a shared counter,
+ * so by default only a random one in DEFAULT_SAMPLE_INTERVAL is timed, and their
+ * counts are estimated from the sample. The rest pay for a random number and a
+ * branch. Setting the interval to 1 times and counts every one.
+ */
+public class AppMetrics implements AppMetricsMXBean {
+    /** Name the metrics are registered under */
+    public static final String OBJECT_NAME = "edu.ncsu.csc216.app_manager:type=AppMetrics";
+    /** One in this many lookups and commands is timed unless set otherwise */
+    public static final int DEFAULT_SAMPLE_INTERVAL = 64;
+    /** Start time returned when metrics are disabled */
+    private static final long DISABLED = Long.MIN_VALUE;
+    /** Start time returned for an operation outside the sample */
+    private static final long UNTIMED = Long.MIN_VALUE + 1;
+
+    /** Load latencies */
+    private final LatencyHistogram load = new LatencyHistogram();
+    /** Save latencies */
+    private final LatencyHistogram save = new LatencyHistogram();
+    /** Lookup latencies */
+    private final LatencyHistogram lookup = new LatencyHistogram();
+    /** Single command latencies */
+    private final LatencyHistogram command = new LatencyHistogram();
+    /** Batch latencies */
+    private final LatencyHistogram batch = new LatencyHistogram();
+    /** Gets the size of the managed list */
+    private final IntSupplier listSize;
+    /** Whether operations are measured */
+    private volatile boolean enabled = true;
+    /** Sample interval of lookups and commands less one; the interval is a power of two */
+    private volatile int sampleMask = DEFAULT_SAMPLE_INTERVAL - 1;
+
+    /**
+     * Constructs metrics for a manager.
+     *
+     * @param listSize Gets the number of applications in the manager's list.
+     */
+    AppMetrics(IntSupplier listSize) {
+        this.listSize = listSize;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server under OBJECT_NAME. Does
+     * nothing if they are already registered.
+     *
+     * @throws IllegalStateException if the metrics cannot be registered.
+     */
+    public void register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (InstanceAlreadyExistsException e) {
+            // Registered by another thread meanwhile
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to register metrics.", e);
+        }
+    }
+
+    /**
+     * Starts timing an operation that is always timed.
+     *
+     * @return The start time to pass to the matching record method.
+     */
+    long start() {
+        return enabled ? System.nanoTime() : DISABLED;
+    }
+
+    /**
+     * Starts timing an operation that is only timed for a sample.
+     *
+     * @return The start time to pass to the matching record method.
+     */
+    long startSampled() {
+        if (!enabled) {
+            return DISABLED;
+        }
+        int mask = sampleMask;
+        return mask == 0 || (ThreadLocalRandom.current().nextInt() & mask) == 0 ? System.nanoTime() : UNTIMED;
+    }
+
+    /**
+     * Records a load.
+     *
+     * @param start The value start returned.
+     */
+    void recordLoad(long start) {
+        record(load, start, 1);
+    }
+
+    /**
+     * Records a save.
+     *
+     * @param start The value start returned.
+     */
+    void recordSave(long start) {
+        record(save, start, 1);
+    }
+
+    /**
+     * Records a lookup.
+     *
+     * @param start The value startSampled returned.
+     */
+    void recordLookup(long start) {
+        record(lookup, start, sampleMask + 1);
+    }
+
+    /**
+     * Records a single command.
+     *
+     * @param start The value startSampled returned.
+     */
+    void recordCommand(long start) {
+        record(command, start, sampleMask + 1);
+    }
+
+    /**
+     * Records a batch of commands.
+     *
+     * @param start The value start returned.
+     */
+    void recordBatch(long start) {
+        record(batch, start, 1);
+    }
+
+    /**
+     * Records an operation in a histogram if it was timed.
+     *
+     * @param histogram The histogram.
+     * @param start     The start time, DISABLED or UNTIMED.
+     * @param weight    The number of operations a timed one stands for.
+     */
+    private static void record(LatencyHistogram histogram, long start, int weight) {
+        if (start != DISABLED && start != UNTIMED) {
+            histogram.record(System.nanoTime() - start, weight);
+        }
+    }
+
+    @Override
+    public int getListSize() {
+        return listSize.getAsInt();
+    }
+
+    @Override
+    public long getHeapUsedBytes() {
+        return heap().getUsed();
+    }
+
+    @Override
+    public long getHeapCommittedBytes() {
+        return heap().getCommitted();
+    }
+
+    @Override
+    public long getNotesArenaBytes() {
+        NotesArena arena = Application.getNotesArena();
+        return arena == null ? 0 : arena.getUsedBytes();
+    }
+
+    @Override
+    public LatencySnapshot getLoadLatency() {
+        return load.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getSaveLatency() {
+        return save.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getLookupLatency() {
+        return lookup.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getCommandLatency() {
+        return command.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getBatchLatency() {
+        return batch.snapshot();
+    }
+
+    @Override
+    public Map<String, Long> getTransitionCounts() {
+        return TransitionCounts.getTransitions();
+    }
+
+    @Override
+    public Map<String, Long> getRejectionCounts() {
+        return TransitionCounts.getRejections();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns measuring on or off, including the counting of transitions. Metrics
+     * already taken are kept.
+     *
+     * @param enabled True to measure.
+     */
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        TransitionCounts.setEnabled(enabled);
+    }
+
+    @Override
+    public int getSampleInterval() {
+        return sampleMask + 1;
+    }
+
+    /**
+     * Sets how many lookups and commands each timed one stands for. A larger
+     * interval costs less; 1 times every one and counts them exactly.
+     *
+     * @param interval The interval, a power of two.
+     * @throws IllegalArgumentException if the interval is not a positive power of two.
+     */
+    @Override
+    public void setSampleInterval(int interval) {
+        if (interval < 1 || Integer.bitCount(interval) != 1) {
+            throw new IllegalArgumentException("Sample interval must be a power of two.");
+        }
+        this.sampleMask = interval - 1;
+    }
+
+    @Override
+    public void reset() {
+        load.reset();
+        save.reset();
+        lookup.reset();
+        command.reset();
+        batch.reset();
+        TransitionCounts.reset();
+    }
+
+    /**
+     * Formats every metric as text, one "name value" pair per line, with latency
+     * summaries as name=value fields and one line per transition and rejection.
+     *
+     * @return The metrics.
+     */
+    @Override
+    public String dump() {
+        StringBuilder out = new StringBuilder();
+        out.append("list.size ").append(getListSize()).append('\n');
+        MemoryUsage heap = heap();
+        out.append("heap.used.bytes ").append(heap.getUsed()).append('\n');
+        out.append("heap.committed.bytes ").append(heap.getCommitted()).append('\n');
+        out.append("notes.arena.bytes ").append(getNotesArenaBytes()).append('\n');
+        out.append("latency.load ").append(load.snapshot()).append('\n');
+        out.append("latency.save ").append(save.snapshot()).append('\n');
+        out.append("latency.lookup ").append(lookup.snapshot()).append('\n');
+        out.append("latency.command ").append(command.snapshot()).append('\n');
+        out.append("latency.batch ").append(batch.snapshot()).append('\n');
+        for (Map.Entry<String, Long> entry : getTransitionCounts().entrySet()) {
+            out.append("transition ").append(entry.getKey()).append(' ').append(entry.getValue()).append('\n');
+        }
+        for (Map.Entry<String, Long> entry : getRejectionCounts().entrySet()) {
+            out.append("rejected ").append(entry.getKey()).append(' ').append(entry.getValue()).append('\n');
+        }
+        return out.toString();
+    }
+
+    /**
+     * Gets the current heap usage.
+     *
+     * @return The usage.
+     */
+    private static MemoryUsage heap() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+    }
+}
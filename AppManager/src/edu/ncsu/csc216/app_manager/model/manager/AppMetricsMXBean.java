@@ -0,0 +1,126 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import java.util.Map;
+
+/**
+ * Management interface of AppMetrics, as registered with the platform MBean server.
+ */
+public interface AppMetricsMXBean {
+
+    /**
+     * Gets the number of applications in the managed list.
+     *
+     * @return The list size.
+     */
+    int getListSize();
+
+    /**
+     * Gets the heap in use.
+     *
+     * @return Bytes used.
+     */
+    long getHeapUsedBytes();
+
+    /**
+     * Gets the heap the JVM has reserved.
+     *
+     * @return Bytes committed.
+     */
+    long getHeapCommittedBytes();
+
+    /**
+     * Gets the bytes of notes held off the heap in the notes arena.
+     *
+     * @return Bytes used, or 0 if there is no arena.
+     */
+    long getNotesArenaBytes();
+
+    /**
+     * Gets the latencies of loading files.
+     *
+     * @return The summary.
+     */
+    LatencySnapshot getLoadLatency();
+
+    /**
+     * Gets the latencies of saving files.
+     *
+     * @return The summary.
+     */
+    LatencySnapshot getSaveLatency();
+
+    /**
+     * Gets the latencies of looking applications up by id.
+     *
+     * @return The summary.
+     */
+    LatencySnapshot getLookupLatency();
+
+    /**
+     * Gets the latencies of executing single commands.
+     *
+     * @return The summary.
+     */
+    LatencySnapshot getCommandLatency();
+
+    /**
+     * Gets the latencies of executing batches of commands.
+     *
+     * @return The summary.
+     */
+    LatencySnapshot getBatchLatency();
+
+    /**
+     * Gets the counts of transitions, keyed "from COMMAND to".
+     *
+     * @return The non-zero counts.
+     */
+    Map<String, Long> getTransitionCounts();
+
+    /**
+     * Gets the counts of rejected commands, keyed "state COMMAND".
+     *
+     * @return The non-zero counts.
+     */
+    Map<String, Long> getRejectionCounts();
+
+    /**
+     * Gets whether operations are being measured.
+     *
+     * @return True if measuring.
+     */
+    boolean isEnabled();
+
+    /**
+     * Turns measuring on or off.
+     *
+     * @param enabled True to measure.
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Gets how many lookups and commands each timed one stands for.
+     *
+     * @return The sample interval.
+     */
+    int getSampleInterval();
+
+    /**
+     * Sets how many lookups and commands each timed one stands for.
+     *
+     * @param interval The interval, a power of two.
+     */
+    void setSampleInterval(int interval);
+
+    /**
+     * Sets every count and histogram back to 0.
+     */
+    void reset();
+
+    /**
+     * Formats every metric as text, one per line.
+     *
+     * @return The metrics.
+     */
+    String dump();
+}
@@ -0,0 +1,94 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+/**
+ * Outcome of each command in a CommandBatch. A command either succeeded or failed
+ * with the exception it raised; a failed command does not stop the rest of the batch.
+ */
+public class BatchResult {
+
+    /** Exception raised by each command, or null where the command succeeded */
+    private final RuntimeException[] failures;
+    /** Number of commands that failed */
+    private int failureCount;
+
+    /**
+     * Constructs a result for a batch in which every command has succeeded.
+     *
+     * @param size The number of commands in the batch.
+     */
+    BatchResult(int size) {
+        this.failures = new RuntimeException[size];
+    }
+
+    /**
+     * Records that a command failed. Each item is only written by the thread that
+     * executed it, and the result is only read after every thread has finished.
+     *
+     * @param item    The position of the command in the batch.
+     * @param failure The exception it raised.
+     */
+    void fail(int item, RuntimeException failure) {
+        failures[item] = failure;
+    }
+
+    /**
+     * Counts the failures once the batch has finished.
+     */
+    void finish() {
+        failureCount = 0;
+        for (RuntimeException failure : failures) {
+            if (failure != null) {
+                failureCount++;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of commands in the batch.
+     *
+     * @return The number of commands.
+     */
+    public int size() {
+        return failures.length;
+    }
+
+    /**
+     * Checks whether a command succeeded.
+     *
+     * @param item The position of the command in the batch.
+     * @return True if the command was applied.
+     */
+    public boolean isSuccess(int item) {
+        return failures[item] == null;
+    }
+
+    /**
+     * Gets the exception a command failed with. UnsupportedOperationException means
+     * the command is not valid in the application's state; IllegalArgumentException
+     * means the application does not exist or the command was rejected.
+     *
+     * @param item The position of the command in the batch.
+     * @return The exception, or null if the command succeeded.
+     */
+    public RuntimeException getFailure(int item) {
+        return failures[item];
+    }
+
+    /**
+     * Gets the number of commands that failed.
+     *
+     * @return The number of failures.
+     */
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Gets the number of commands that succeeded.
+     *
+     * @return The number of successes.
+     */
+    public int getSuccessCount() {
+        return failures.length - failureCount;
+    }
+}
@@ -0,0 +1,85 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import edu.ncsu.csc216.app_manager.model.command.Command;
+
+import java.util.Arrays;
+
+/**
+ * An ordered batch of commands, each addressed to an application by id, to be
+ * executed in one call to AppManager.executeCommands. Commands addressed to the
+ * same application are applied in the order they were added.
+ */
+public class CommandBatch {
+
+    /** Ids of the applications the commands are addressed to */
+    private int[] appIds = new int[16];
+    /** Commands, in the order they were added */
+    private Command[] commands = new Command[16];
+    /** Number of commands in the batch */
+    private int size;
+
+    /**
+     * Adds a command to the end of the batch.
+     *
+     * @param appId   The ID of the application.
+     * @param command The command to execute on it.
+     * @return This batch, so adds can be chained.
+     * @throws IllegalArgumentException if command is null.
+     */
+    public CommandBatch add(int appId, Command command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Command cannot be null.");
+        }
+        if (size == appIds.length) {
+            appIds = Arrays.copyOf(appIds, size * 2);
+            commands = Arrays.copyOf(commands, size * 2);
+        }
+        appIds[size] = appId;
+        commands[size] = command;
+        size++;
+        return this;
+    }
+
+    /**
+     * Gets the number of commands in the batch.
+     *
+     * @return The number of commands.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the application id of a command.
+     *
+     * @param item The position of the command in the batch.
+     * @return The ID of the application.
+     */
+    public int getAppId(int item) {
+        checkItem(item);
+        return appIds[item];
+    }
+
+    /**
+     * Gets a command.
+     *
+     * @param item The position of the command in the batch.
+     * @return The command.
+     */
+    public Command getCommand(int item) {
+        checkItem(item);
+        return commands[item];
+    }
+
+    /**
+     * Checks that a position is within the batch.
+     *
+     * @param item The position to check.
+     * @throws IndexOutOfBoundsException if there is no such command.
+     */
+    private void checkItem(int item) {
+        if (item < 0 || item >= size) {
+            throw new IndexOutOfBoundsException("Item " + item + " of " + size);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of operation latencies in nanoseconds. Each power of two is split into
+ * four buckets, so a percentile read from it is within 25% of the true value,
+ * whatever the range of latencies. A sample can stand for several operations, so
+ * callers can time only a sample of very frequent operations and still count them.
+ */
+class LatencyHistogram {
+    /** Number of buckets per power of two, as a power of two */
+    private static final int SUB_BITS = 2;
+    /** Number of buckets per power of two */
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    /** Number of buckets, enough for any non-negative long */
+    private static final int BUCKETS = (63 - SUB_BITS + 1) * SUB_BUCKETS;
+
+    /** Timed operations by bucket of their latency */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    /** Operations, each sample counting for its weight */
+    private final LongAdder count = new LongAdder();
+    /** Sum of the latencies of the timed operations */
+    private final LongAdder total = new LongAdder();
+    /** Longest latency */
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a timed operation.
+     *
+     * @param nanos  The latency; negative values count as 0.
+     * @param weight The number of operations the sample stands for.
+     */
+    void record(long nanos, long weight) {
+        long latency = Math.max(nanos, 0);
+        buckets.incrementAndGet(bucket(latency));
+        count.add(weight);
+        total.add(latency);
+        max.accumulate(latency);
+    }
+
+    /**
+     * Summarizes the histogram. Operations recorded meanwhile may be partly included.
+     *
+     * @return The summary.
+     */
+    LatencySnapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long samples = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            samples += counts[i];
+        }
+        long longest = max.get();
+        return new LatencySnapshot(count.sum(), samples, samples == 0 ? 0 : (double) total.sum() / samples,
+                percentile(counts, samples, 0.50, longest), percentile(counts, samples, 0.90, longest),
+                percentile(counts, samples, 0.99, longest), longest);
+    }
+
+    /**
+     * Sets every count back to 0.
+     */
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        total.reset();
+        max.reset();
+    }
+
+    /**
+     * Finds the latency below which a fraction of the timed operations fall.
+     *
+     * @param counts   Timed operations by bucket.
+     * @param samples  Number of timed operations.
+     * @param fraction The fraction, such as 0.99.
+     * @param longest  The longest latency, which bounds the answer.
+     * @return The upper bound of the bucket holding the percentile, or 0 if nothing was timed.
+     */
+    private static long percentile(long[] counts, long samples, double fraction, long longest) {
+        if (samples == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(samples * fraction);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i + 1 < BUCKETS ? Math.min(lowerBound(i + 1) - 1, longest) : longest;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * Gets the bucket of a latency: values below SUB_BUCKETS have one each, and each
+     * power of two above is split into SUB_BUCKETS equal parts.
+     *
+     * @param nanos The latency, not negative.
+     * @return The bucket.
+     */
+    static int bucket(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int power = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (power - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (power - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Gets the smallest latency in a bucket.
+     *
+     * @param bucket The bucket.
+     * @return The smallest latency.
+     */
+    static long lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int power = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + sub) << (power - SUB_BITS);
+    }
+}
@@ -0,0 +1,123 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * Summary of the latencies of one kind of operation, as shown over JMX. Percentiles
+ * are estimates, within 25% of the true value. Frequent operations are only timed
+ * for a sample, and their count is then estimated from the number of samples.
+ */
+public class LatencySnapshot {
+    /** Operations recorded, estimated for sampled operations */
+    private final long count;
+    /** Operations timed */
+    private final long samples;
+    /** Mean latency of the timed operations */
+    private final double meanNanos;
+    /** Median latency */
+    private final long p50Nanos;
+    /** 90th percentile latency */
+    private final long p90Nanos;
+    /** 99th percentile latency */
+    private final long p99Nanos;
+    /** Longest latency */
+    private final long maxNanos;
+
+    /**
+     * Constructs a summary.
+     *
+     * @param count     Operations recorded, estimated for sampled operations.
+     * @param samples   Operations timed.
+     * @param meanNanos Mean latency.
+     * @param p50Nanos  Median latency.
+     * @param p90Nanos  90th percentile latency.
+     * @param p99Nanos  99th percentile latency.
+     * @param maxNanos  Longest latency.
+     */
+    @ConstructorParameters({ "count", "samples", "meanNanos", "p50Nanos", "p90Nanos", "p99Nanos", "maxNanos" })
+    public LatencySnapshot(long count, long samples, double meanNanos, long p50Nanos, long p90Nanos,
+            long p99Nanos, long maxNanos) {
+        this.count = count;
+        this.samples = samples;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Gets the number of operations recorded, estimated from the sample if only a
+     * sample was timed.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the number of operations timed.
+     *
+     * @return The number of samples.
+     */
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * Gets the mean latency of the timed operations.
+     *
+     * @return The mean in nanoseconds, or 0 if none were timed.
+     */
+    public double getMeanNanos() {
+        return meanNanos;
+    }
+
+    /**
+     * Gets the median latency.
+     *
+     * @return The median in nanoseconds.
+     */
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    /**
+     * Gets the 90th percentile latency.
+     *
+     * @return The percentile in nanoseconds.
+     */
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    /**
+     * Gets the 99th percentile latency.
+     *
+     * @return The percentile in nanoseconds.
+     */
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    /**
+     * Gets the longest latency.
+     *
+     * @return The maximum in nanoseconds.
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Formats the summary for the text dump.
+     *
+     * @return The summary as name=value pairs.
+     */
+    @Override
+    public String toString() {
+        return "count=" + count + " samples=" + samples + " mean_ns=" + Math.round(meanNanos) + " p50_ns=" + p50Nanos
+                + " p90_ns=" + p90Nanos + " p99_ns=" + p99Nanos + " max_ns=" + maxNanos;
+    }
+}
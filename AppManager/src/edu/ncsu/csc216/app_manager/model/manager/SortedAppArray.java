@@ -0,0 +1,199 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Applications held in an array sorted by id, which hands out read-only
+ * snapshots without copying. A snapshot keeps showing the array as it was,
+ * however it changes afterwards, because the next insert or remove copies the
+ * array once instead. Appends past the end of a snapshot need no copy. Not
+ * thread-safe.
+ */
+class SortedAppArray {
+    /** Initial length of the array */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Applications sorted by id in elements[0..size) */
+    private Application[] elements = new Application[INITIAL_CAPACITY];
+    /** Number of applications */
+    private int size;
+    /**
+     * Whether a snapshot may still be reading elements. The next change that
+     * would move or overwrite one of the first size slots copies the array first.
+     */
+    private boolean shared;
+
+    /**
+     * Gets the number of applications.
+     *
+     * @return The number of applications.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets the application with the highest id.
+     *
+     * @return The last application, or null if there are none.
+     */
+    Application last() {
+        return size == 0 ? null : elements[size - 1];
+    }
+
+    /**
+     * Inserts an application whose id is not yet in the array.
+     *
+     * @param app The application to insert.
+     */
+    void insert(Application app) {
+        int position = -(findPosition(app.getAppId()) + 1);
+        if (size == elements.length || (shared && position < size)) {
+            Application[] grown = new Application[size == elements.length ? size * 2 : elements.length];
+            System.arraycopy(elements, 0, grown, 0, position);
+            System.arraycopy(elements, position, grown, position + 1, size - position);
+            elements = grown;
+            shared = false;
+        } else {
+            System.arraycopy(elements, position, elements, position + 1, size - position);
+        }
+        elements[position] = app;
+        size++;
+    }
+
+    /**
+     * Removes the application with an id.
+     *
+     * @param appId The ID of the application.
+     */
+    void remove(int appId) {
+        int position = findPosition(appId);
+        if (position < 0) {
+            return;
+        }
+        if (shared) {
+            elements = elements.clone();
+            shared = false;
+        }
+        System.arraycopy(elements, position + 1, elements, position, size - position - 1);
+        elements[--size] = null;
+    }
+
+    /**
+     * Merges applications sorted by id, sharing no ids with the array, into it in
+     * a single pass. Applications that all come after the array are appended in place.
+     *
+     * @param added The sorted applications to add.
+     */
+    void merge(List<Application> added) {
+        int count = added.size();
+        if (count == 0) {
+            return;
+        }
+        if (size == 0 || elements[size - 1].getAppId() < added.get(0).getAppId()) {
+            if (size + count > elements.length) {
+                elements = Arrays.copyOf(elements, Math.max(size + count, elements.length * 2));
+                shared = false;
+            }
+            for (int j = 0; j < count; j++) {
+                elements[size + j] = added.get(j);
+            }
+            size += count;
+            return;
+        }
+        Application[] merged = new Application[Math.max(size + count, elements.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < size && j < count) {
+            if (elements[i].getAppId() < added.get(j).getAppId()) {
+                merged[k++] = elements[i++];
+            } else {
+                merged[k++] = added.get(j++);
+            }
+        }
+        while (i < size) {
+            merged[k++] = elements[i++];
+        }
+        while (j < count) {
+            merged[k++] = added.get(j++);
+        }
+        elements = merged;
+        size = k;
+        shared = false;
+    }
+
+    /**
+     * Returns a read-only snapshot of the array in O(1).
+     *
+     * @return An unmodifiable list of the applications in id order.
+     */
+    List<Application> snapshot() {
+        shared = true;
+        return new Snapshot(elements, size);
+    }
+
+    /**
+     * Binary searches the array for an application id.
+     *
+     * @param appId The ID of the application.
+     * @return The position of the application if present, otherwise
+     *         (-(insertion point) - 1) as in {@link java.util.Collections#binarySearch}.
+     */
+    private int findPosition(int appId) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midId = elements[mid].getAppId();
+            if (midId < appId) {
+                low = mid + 1;
+            } else if (midId > appId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Read-only view of the first size slots of a backing array. The
+     * SortedAppArray never changes those slots while the view may be reading them.
+     */
+    private static class Snapshot extends AbstractList<Application> implements RandomAccess {
+        /** Backing array shared with the SortedAppArray */
+        private final Application[] elements;
+        /** Number of applications in the view */
+        private final int size;
+
+        /**
+         * Constructs a view of the first size slots of an array.
+         *
+         * @param elements The backing array.
+         * @param size     The number of applications in the view.
+         */
+        Snapshot(Application[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        @Override
+        public Application get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " of " + size);
+            }
+            return elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
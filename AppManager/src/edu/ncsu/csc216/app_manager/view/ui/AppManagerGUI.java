@@ -256,10 +256,12 @@ public class AppManagerGUI extends JFrame implements ActionListener {
 	}
 
 	/**
-	 * Starts the GUI for the ApplicationManager application.
+	 * Starts the GUI for the ApplicationManager application, publishing the
+	 * manager's metrics over JMX.
 	 * @param args command line arguments
 	 */
 	public static void main(String [] args) {
+		AppManager.getInstance().getMetrics().register();
 		new AppManagerGUI();
 	}
 	
@@ -504,11 +506,7 @@ public class AppManagerGUI extends JFrame implements ActionListener {
 			private void updateAppDataByType(AppType appType) {
 				try {
 					AppManager m = AppManager.getInstance();
-					if (appType == AppType.NEW) {
-						data = m.getAppListAsArrayByAppType("New");
-					} else if(appType == AppType.OLD) {
-						data = m.getAppListAsArrayByAppType("Old");
-					}
+					data = m.getAppListAsArrayByAppType(appType);
 				} catch (IllegalArgumentException e) {
 					JOptionPane.showMessageDialog(AppManagerGUI.this, e.getMessage());
 				}
@@ -0,0 +1,72 @@
+package edu.ncsu.csc216.app_manager.model.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
+
+/**
+ * Tests the AppStateMachine transition table.
+ */
+public class AppStateMachineTest {
+
+    /**
+     * Creates an application in the given state.
+     *
+     * @param state The state name.
+     * @return The application.
+     */
+    private static Application inState(String state) {
+        return new Application(1, state, "Old", "Summary", "reviewer", false, null, new ArrayList<>());
+    }
+
+    @Test
+    public void testStateNamed() {
+        assertSame(ReviewState.INSTANCE, AppStateMachine.stateNamed(Application.REVIEW_NAME));
+        assertSame(RefChkState.INSTANCE, AppStateMachine.stateNamed(Application.REFCHK_NAME));
+        assertSame(ClosedState.INSTANCE, AppStateMachine.stateNamed(Application.CLOSED_NAME));
+        assertNull(AppStateMachine.stateNamed("Unknown"));
+    }
+
+    @Test
+    public void testTransitionsStampNotes() {
+        Application app = inState(Application.INTERVIEW_NAME);
+        app.update(new Command(CommandValue.ACCEPT, "jdoe", null, "Went well"));
+        assertEquals(Application.REFCHK_NAME, app.getStateName());
+        assertEquals("jdoe", app.getReviewer());
+        assertEquals("[RefCheck] [Accepted] Went well", app.getNotes().get(0));
+
+        app = inState(Application.OFFER_NAME);
+        app.update(new Command(CommandValue.ACCEPT, "asmith", null, "Signed"));
+        assertEquals(Application.CLOSED_NAME, app.getStateName());
+        assertTrue(app.isProcessed());
+        assertEquals("[Offer] Signed", app.getNotes().get(0));
+
+        app = inState(Application.WAITLIST_NAME);
+        app.update(new Command(CommandValue.REOPEN, null, null, "Opening"));
+        assertEquals(Application.REVIEW_NAME, app.getStateName());
+        assertEquals("[Review] Opening", app.getNotes().get(0));
+    }
+
+    @Test
+    public void testInvalidCommands() {
+        Application app = inState(Application.REFCHK_NAME);
+        Exception e = assertThrows(UnsupportedOperationException.class,
+                () -> app.update(new Command(CommandValue.REOPEN, null, null, "Note")));
+        assertEquals("Invalid command for Reference Check state.", e.getMessage());
+        assertEquals(Application.REFCHK_NAME, app.getStateName());
+        assertTrue(app.getNotes().isEmpty());
+
+        Application closed = inState(Application.CLOSED_NAME);
+        e = assertThrows(UnsupportedOperationException.class,
+                () -> closed.update(new Command(CommandValue.REOPEN, null, Resolution.OFFERCOMPLETED, "Note")));
+        assertEquals("Cannot reopen application with the given resolution.", e.getMessage());
+        closed.update(new Command(CommandValue.REOPEN, null, Resolution.REVCOMPLETED, "Note"));
+        assertEquals("[Review] [Reopened] Note", closed.getNotes().get(0));
+    }
+}
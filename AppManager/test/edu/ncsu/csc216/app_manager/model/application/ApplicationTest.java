@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
@@ -11,6 +12,7 @@ import java.util.Scanner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
 import edu.ncsu.csc216.app_manager.model.command.Command;
 
 /**
@@ -105,6 +107,58 @@ public class ApplicationTest {
         });
     }
 
+    /**
+     * Tests that the notes string is reused between calls until a note is added, and
+     * that appendNotesTo writes the same text.
+     */
+    @Test
+    public void testNotesStringCachedUntilNoteAdded() throws IOException {
+        Application app = new Application(2, AppType.NEW, "Summary", "first");
+        StringBuilder streamed = new StringBuilder();
+        app.appendNotesTo(streamed);
+        assertEquals("- first\n", streamed.toString());
+
+        String notes = app.getNotesString();
+        assertEquals("- first\n", notes);
+        assertSame(notes, app.getNotesString());
+
+        app.addNote("second");
+        String added = app.getNotesString();
+        assertEquals("- first\n- [Review] second\n", added);
+        assertSame(added, app.getNotesString());
+        streamed.setLength(0);
+        app.appendNotesTo(streamed);
+        assertEquals(app.getNotesString(), streamed.toString());
+        assertEquals("* 2\nSummary\n- first\n- [Review] second\n", app.toString());
+    }
+
+    /**
+     * Tests that preview gives the outcome of a command without changing the
+     * application or counting the transition.
+     */
+    @Test
+    public void testPreview() {
+        Application app = new Application(3, AppType.NEW, "Summary", "first");
+        Command accept = new Command(Command.CommandValue.ACCEPT, "reviewer", null, "Accepted");
+        long before = TransitionCounts.getTransitions("Review", Command.CommandValue.ACCEPT, "Interview");
+
+        Application next = app.preview(accept);
+        assertEquals("Interview", next.getStateName());
+        assertEquals("reviewer", next.getReviewer());
+        assertEquals(3, next.getAppId());
+        assertEquals("Review", app.getStateName());
+        assertNull(app.getReviewer());
+        assertEquals(1, app.getNotes().size());
+        assertEquals(before, TransitionCounts.getTransitions("Review", Command.CommandValue.ACCEPT, "Interview"));
+
+        app.update(accept);
+        assertEquals(next.getNotes(), app.getNotes());
+        assertEquals(next.getStateName(), app.getStateName());
+        assertThrows(UnsupportedOperationException.class,
+                () -> app.preview(new Command(Command.CommandValue.REOPEN, null, null, "Reopen")));
+        assertEquals("Interview", app.getStateName());
+    }
+
     /**
      * Tests loading an application from a file.
      */
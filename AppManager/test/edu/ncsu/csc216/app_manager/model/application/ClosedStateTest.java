@@ -27,7 +27,7 @@ public class ClosedStateTest {
     public void setUp() {
         application = new Application(4, "Closed", "Old", 
                 "Application summary", null, true, "OfferCompleted", new ArrayList<>());
-        closedState = new ClosedState(application);
+        closedState = ClosedState.INSTANCE;
         application.setState(closedState);
     }
 
@@ -39,7 +39,7 @@ public class ClosedStateTest {
         Command reopenCommand = new Command(Command.CommandValue.REOPEN, null, 
                 null, "Reopened from closed");
 
-        closedState.updateState(reopenCommand);
+        closedState.updateState(application, reopenCommand);
 
         assertEquals("Review", application.getStateName());
         assertEquals(Application.A_OLD, application.getAppType());
@@ -55,7 +55,7 @@ public class ClosedStateTest {
                 "Invalid command in closed state");
 
         assertThrows(UnsupportedOperationException.class, () -> {
-            closedState.updateState(invalidCommand);
+            closedState.updateState(application, invalidCommand);
         });
     }
 
@@ -82,7 +82,7 @@ public class ClosedStateTest {
                 null, "Attempted reopen with invalid resolution");
 
         assertThrows(UnsupportedOperationException.class, () -> {
-            closedState.updateState(reopenCommand);
+            closedState.updateState(application, reopenCommand);
         });
     }
 
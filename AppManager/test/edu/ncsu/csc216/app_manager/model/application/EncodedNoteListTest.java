@@ -0,0 +1,67 @@
+package edu.ncsu.csc216.app_manager.model.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the EncodedNoteList class.
+ */
+public class EncodedNoteListTest {
+
+    @Test
+    public void testRoundTrip() {
+        List<String> notes = Arrays.asList("[Review] Note 1", "[Interview] [Accepted] Note 2\nsecond line",
+                "No prefix", "[Closed] [Reopened] [Extra] three tags", "[unterminated", "");
+        EncodedNoteList list = new EncodedNoteList(new StringDictionary(EncodedNoteList.MAX_PREFIXES), notes);
+        assertEquals(notes, list);
+    }
+
+    @Test
+    public void testManyNotes() {
+        StringDictionary prefixes = new StringDictionary(EncodedNoteList.MAX_PREFIXES);
+        EncodedNoteList list = new EncodedNoteList(prefixes, Collections.emptyList());
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            String note = "[State" + (i % 6) + "] note " + i;
+            list.add(note);
+            expected.add(note);
+        }
+        assertEquals(expected, list);
+        assertEquals(6, prefixes.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(40));
+    }
+
+    @Test
+    public void testFullDictionary() {
+        StringDictionary prefixes = new StringDictionary(1);
+        EncodedNoteList list = new EncodedNoteList(prefixes, Arrays.asList("[A] one", "[B] two", "[A] three"));
+        assertEquals(Arrays.asList("[A] one", "[B] two", "[A] three"), list);
+        assertEquals(1, prefixes.size());
+    }
+
+    @Test
+    public void testAppendTo() throws Exception {
+        List<String> notes = Arrays.asList("[Review] Note 1", "No prefix", "[Interview] [Accepted] Note 3");
+        EncodedNoteList list = new EncodedNoteList(new StringDictionary(EncodedNoteList.MAX_PREFIXES), notes);
+        for (int i = 0; i < notes.size(); i++) {
+            StringBuilder out = new StringBuilder();
+            list.appendTo(i, out);
+            assertEquals(notes.get(i), out.toString());
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.appendTo(3, new StringBuilder()));
+    }
+
+    @Test
+    public void testPrefixLength() {
+        assertEquals(9, EncodedNoteList.prefixLength("[Review] Note"));
+        assertEquals(23, EncodedNoteList.prefixLength("[Interview] [Accepted] Note"));
+        assertEquals(0, EncodedNoteList.prefixLength("Note [Review] "));
+        assertEquals(0, EncodedNoteList.prefixLength("[This bracket holds far too much text] Note"));
+    }
+}
@@ -28,7 +28,7 @@ public class InterviewStateTest {
     public void setUp() {
         application = new Application(2, "Interview", "Old", 
                 "In interview process", null, false, null, new ArrayList<>());
-        interviewState = new InterviewState(application);
+        interviewState = InterviewState.INSTANCE;
         application.setState(interviewState);
     }
 
@@ -39,7 +39,7 @@ public class InterviewStateTest {
     public void testAcceptInterview() {
         Command acceptCommand = new Command(Command.CommandValue.ACCEPT, "reviewer", 
                 Command.Resolution.INTCOMPLETED, "Interview completed");
-        interviewState.updateState(acceptCommand);
+        interviewState.updateState(application, acceptCommand);
 
         assertEquals("Closed", application.getStateName());
         assertEquals("Old", application.getAppType());
@@ -55,7 +55,7 @@ public class InterviewStateTest {
     public void testRejectInterview() {
         Command rejectCommand = new Command(Command.CommandValue.REJECT, null, 
                 Command.Resolution.INTCOMPLETED, "Interview rejected");
-        interviewState.updateState(rejectCommand);
+        interviewState.updateState(application, rejectCommand);
 
         assertEquals("Waitlist", application.getStateName());
         assertNull(application.getReviewer());
@@ -72,7 +72,7 @@ public class InterviewStateTest {
                 "Invalid command in Interview state");
 
         assertThrows(UnsupportedOperationException.class, () -> {
-            interviewState.updateState(invalidCommand);
+            interviewState.updateState(application, invalidCommand);
         });
     }
 
@@ -94,7 +94,7 @@ public class InterviewStateTest {
     public void testTransitionToWaitlist() {
         Command rejectCommand = new Command(Command.CommandValue.REJECT, null, 
                 Command.Resolution.INTCOMPLETED, "Rejected interview");
-        interviewState.updateState(rejectCommand);
+        interviewState.updateState(application, rejectCommand);
 
         assertEquals("Waitlist", application.getStateName());
     }
@@ -106,7 +106,7 @@ public class InterviewStateTest {
     public void testTransitionToClosedState() {
         Command acceptCommand = new Command(Command.CommandValue.ACCEPT, "reviewer", 
                 Command.Resolution.INTCOMPLETED, "Accepted interview");
-        interviewState.updateState(acceptCommand);
+        interviewState.updateState(application, acceptCommand);
 
         assertEquals("Closed", application.getStateName());
     }
@@ -0,0 +1,63 @@
+package edu.ncsu.csc216.app_manager.model.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+
+/**
+ * Tests the NotesArena class.
+ */
+public class NotesArenaTest {
+
+    @AfterEach
+    public void tearDown() {
+        Application.setNotesArena(null);
+    }
+
+    @Test
+    public void testAppendAndRead() {
+        NotesArena arena = new NotesArena(64);
+        List<Long> handles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            handles.add(arena.append("note " + i));
+        }
+        long oversized = arena.append("x".repeat(500));
+        long accented = arena.append("[Review] caf\u00e9 \u2713");
+        for (int i = 0; i < 100; i++) {
+            assertEquals("note " + i, arena.read(handles.get(i)));
+        }
+        assertEquals("x".repeat(500), arena.read(oversized));
+        assertEquals("[Review] caf\u00e9 \u2713", arena.read(accented));
+        assertEquals("", arena.read(arena.append("")));
+    }
+
+    @Test
+    public void testInvalidChunkSize() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> new NotesArena(8));
+        assertEquals("Chunk size is too small.", e.getMessage());
+    }
+
+    @Test
+    public void testApplicationNotesInArena() {
+        NotesArena arena = new NotesArena();
+        Application.setNotesArena(arena);
+        Application app = new Application(1, AppType.NEW, "Summary", "first");
+        assertTrue(arena.getUsedBytes() > 0);
+        app.addNote("second");
+        assertEquals(Arrays.asList("first", "[Review] second"), app.getNotes());
+        assertEquals("- first\n- [Review] second\n", app.getNotesString());
+
+        Application loaded = new Application(2, "Review", "New", "Summary", null, false, null,
+                new ArrayList<>(Arrays.asList("[Review] a", "[Review] b")));
+        assertEquals(2, loaded.getNotes().size());
+        assertEquals("[Review] b", loaded.getNotes().get(1));
+        assertThrows(UnsupportedOperationException.class, () -> loaded.getNotes().remove(0));
+    }
+}
@@ -27,7 +27,7 @@ public class OfferStateTest {
     public void setUp() {
         application = new Application(1, "Offer", "Old", 
                 "Offer made", null, false, null, new ArrayList<>());
-        offerState = new OfferState(application);
+        offerState = OfferState.INSTANCE;
         application.setState(offerState);
     }
 
@@ -38,7 +38,7 @@ public class OfferStateTest {
     public void testAcceptOffer() {
         Command acceptCommand = new Command(Command.CommandValue.ACCEPT, "reviewer", 
                 Command.Resolution.OFFERCOMPLETED, "Offer accepted");
-        offerState.updateState(acceptCommand);
+        offerState.updateState(application, acceptCommand);
 
         assertEquals("Closed", application.getStateName());
         assertEquals("Hired", application.getAppType());
@@ -54,7 +54,7 @@ public class OfferStateTest {
     public void testRejectOffer() {
         Command rejectCommand = new Command(Command.CommandValue.REJECT, null, 
                 Command.Resolution.OFFERCOMPLETED, "Offer rejected");
-        offerState.updateState(rejectCommand);
+        offerState.updateState(application, rejectCommand);
 
         assertEquals("Closed", application.getStateName());
         assertEquals("Old", application.getAppType());
@@ -71,7 +71,7 @@ public class OfferStateTest {
                 "Invalid command in Offer state");
 
         assertThrows(UnsupportedOperationException.class, () -> {
-            offerState.updateState(invalidCommand);
+            offerState.updateState(application, invalidCommand);
         });
     }
 
@@ -93,7 +93,7 @@ public class OfferStateTest {
     public void testTransitionToClosedState() {
         Command acceptCommand = new Command(Command.CommandValue.ACCEPT, "reviewer", 
                 Command.Resolution.OFFERCOMPLETED, "Offer accepted");
-        offerState.updateState(acceptCommand);
+        offerState.updateState(application, acceptCommand);
 
         assertEquals("Closed", application.getStateName());
     }
@@ -28,7 +28,7 @@ public class RefChkStateTest {
     public void setUp() {
         application = new Application(7, "RefCheck", "Old", 
                 "Application summary", "reviewer", true, null, new ArrayList<>());
-        refChkState = new RefChkState(application);
+        refChkState = RefChkState.INSTANCE;
         application.setState(refChkState);
     }
 
@@ -39,7 +39,7 @@ public class RefChkStateTest {
     public void testValidAcceptCommand() {
         Command acceptCommand = new Command(Command.CommandValue.ACCEPT, "reviewer", 
                 Command.Resolution.REFCHKCOMPLETED, "Accepted after reference check");
-        refChkState.updateState(acceptCommand);
+        refChkState.updateState(application, acceptCommand);
 
         assertEquals("Offer", application.getStateName());
         assertTrue(application.getNotesString().contains("[RefCheck] Accepted after reference check"));
@@ -52,7 +52,7 @@ public class RefChkStateTest {
     public void testValidRejectCommand() {
         Command rejectCommand = new Command(Command.CommandValue.REJECT, null, 
                 Command.Resolution.REFCHKCOMPLETED, "Rejected after reference check");
-        refChkState.updateState(rejectCommand);
+        refChkState.updateState(application, rejectCommand);
 
         assertEquals("Closed", application.getStateName());
     }
@@ -66,7 +66,7 @@ public class RefChkStateTest {
                 null, "Standby not allowed in RefCheck");
 
         assertThrows(UnsupportedOperationException.class, () -> {
-            refChkState.updateState(standbyCommand);
+            refChkState.updateState(application, standbyCommand);
         });
     }
 
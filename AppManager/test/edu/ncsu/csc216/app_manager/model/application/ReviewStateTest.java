@@ -23,14 +23,14 @@ public class ReviewStateTest {
     public void setUp() {
         application = new Application(1, "Review", "New", 
                 "Application summary", null, false, null, new ArrayList<>());
-        reviewState = new ReviewState(application);
+        reviewState = ReviewState.INSTANCE;
         application.setState(reviewState);
     }
 
     @Test
     public void testValidAcceptCommand() {
         Command command = new Command(Command.CommandValue.ACCEPT, "reviewer", null, "Accepted for interview");
-        reviewState.updateState(command);
+        reviewState.updateState(application, command);
         assertEquals("Interview", application.getStateName());
         assertEquals("reviewer", application.getReviewer());
     }
@@ -38,7 +38,7 @@ public class ReviewStateTest {
     @Test
     public void testInvalidRejectCommand() {
         Command command = new Command(Command.CommandValue.REJECT, null, null, "Rejected");
-        assertThrows(UnsupportedOperationException.class, () -> reviewState.updateState(command));
+        assertThrows(UnsupportedOperationException.class, () -> reviewState.updateState(application, command));
     }
 
     @Test
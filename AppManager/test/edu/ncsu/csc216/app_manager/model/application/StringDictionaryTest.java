@@ -0,0 +1,53 @@
+package edu.ncsu.csc216.app_manager.model.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the StringDictionary class.
+ */
+public class StringDictionaryTest {
+
+    @Test
+    public void testEncodeAndDecode() {
+        StringDictionary dictionary = new StringDictionary(1000);
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i, dictionary.encode("reviewer" + i));
+        }
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i, dictionary.encode("reviewer" + i));
+            assertEquals("reviewer" + i, dictionary.decode(i));
+        }
+        assertEquals(500, dictionary.size());
+    }
+
+    @Test
+    public void testEncodeRange() {
+        StringDictionary dictionary = new StringDictionary(10);
+        String note = "[Interview] [Accepted] Good fit";
+        int code = dictionary.encode(note, 0, 23);
+        assertEquals("[Interview] [Accepted] ", dictionary.decode(code));
+        assertEquals(code, dictionary.encode("[Interview] [Accepted] "));
+        assertEquals(code, dictionary.encode("x[Interview] [Accepted] y", 1, 24));
+        assertEquals(1, dictionary.size());
+    }
+
+    @Test
+    public void testIntern() {
+        StringDictionary dictionary = new StringDictionary(1);
+        String first = dictionary.intern(new String("jdoe"));
+        assertSame(first, dictionary.intern(new String("jdoe")));
+        assertNull(dictionary.intern(null));
+
+        String other = new String("asmith");
+        assertEquals(StringDictionary.NO_CODE, dictionary.encode(other));
+        assertSame(other, dictionary.intern(other));
+        assertEquals(1, dictionary.size());
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new StringDictionary(0));
+    }
+}
@@ -0,0 +1,53 @@
+package edu.ncsu.csc216.app_manager.model.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+
+/**
+ * Tests the TransitionCounts class. Counts are shared by every test, so each test
+ * checks how much they change.
+ */
+public class TransitionCountsTest {
+
+    @Test
+    public void testCountsTransitionsAndRejections() {
+        long accepted = TransitionCounts.getTransitions(Application.REVIEW_NAME, CommandValue.ACCEPT,
+                Application.INTERVIEW_NAME);
+        long rejected = TransitionCounts.getRejections(Application.REVIEW_NAME, CommandValue.REOPEN);
+
+        Application app = new Application(1, Application.AppType.NEW, "Summary", "Note");
+        app.update(new Command(CommandValue.ACCEPT, "reviewer", null, "Accepted"));
+        Application other = new Application(2, Application.AppType.NEW, "Summary", "Note");
+        assertThrows(UnsupportedOperationException.class,
+                () -> other.update(new Command(CommandValue.REOPEN, null, null, "Reopened")));
+
+        assertEquals(accepted + 1, TransitionCounts.getTransitions(Application.REVIEW_NAME, CommandValue.ACCEPT,
+                Application.INTERVIEW_NAME));
+        assertEquals(rejected + 1, TransitionCounts.getRejections(Application.REVIEW_NAME, CommandValue.REOPEN));
+        assertTrue(TransitionCounts.getTransitions().containsKey("Review ACCEPT Interview"));
+        assertTrue(TransitionCounts.getRejections().containsKey("Review REOPEN"));
+    }
+
+    @Test
+    public void testDisabledCountsNothing() {
+        long accepted = TransitionCounts.getTransitions(Application.REVIEW_NAME, CommandValue.ACCEPT,
+                Application.INTERVIEW_NAME);
+        TransitionCounts.setEnabled(false);
+        try {
+            new Application(3, Application.AppType.NEW, "Summary", "Note")
+                    .update(new Command(CommandValue.ACCEPT, "reviewer", null, "Accepted"));
+        } finally {
+            TransitionCounts.setEnabled(true);
+        }
+        assertEquals(accepted, TransitionCounts.getTransitions(Application.REVIEW_NAME, CommandValue.ACCEPT,
+                Application.INTERVIEW_NAME));
+    }
+
+    @Test
+    public void testUnknownState() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TransitionCounts.getRejections("Hired", CommandValue.ACCEPT));
+    }
+}
@@ -0,0 +1,56 @@
+package edu.ncsu.csc216.app_manager.model.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+
+/**
+ * Tests the TransitionEvent class and the settings file that turns the events on.
+ */
+public class TransitionEventTest {
+
+    /** Name of the transition event */
+    private static final String TRANSITION = "edu.ncsu.csc216.app_manager.Transition";
+
+    @Test
+    public void testTransitionRecorded() throws Exception {
+        Path file = Files.createTempFile("transitions", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TRANSITION);
+            recording.start();
+            Application app = new Application(7, Application.AppType.NEW, "Summary", "Note");
+            app.update(new Command(CommandValue.ACCEPT, "reviewer", null, "Accepted"));
+            assertThrows(UnsupportedOperationException.class,
+                    () -> app.update(new Command(CommandValue.REOPEN, null, null, "Reopened")));
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        events.removeIf(event -> !TRANSITION.equals(event.getEventType().getName()));
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals(7, event.getInt("appId"));
+        assertEquals("ACCEPT", event.getString("command"));
+        assertEquals(Application.REVIEW_NAME, event.getString("fromState"));
+        assertEquals(Application.INTERVIEW_NAME, event.getString("toState"));
+    }
+
+    @Test
+    public void testSettingsFileEnablesEvents() throws Exception {
+        Map<String, String> settings = Configuration.create(Paths.get("jfr/app-manager.jfc")).getSettings();
+        for (String event : new String[] { "Load", "Save", "Bulk", "Transition" }) {
+            assertEquals("true", settings.get("edu.ncsu.csc216.app_manager." + event + "#enabled"), event);
+        }
+    }
+}
@@ -28,7 +28,7 @@ public class WaitlistStateTest {
     public void setUp() {
         application = new Application(1, "Waitlist", "New", 
                 "Waiting for review", null, false, null, new ArrayList<>());
-        waitlistState = new WaitlistState(application);
+        waitlistState = WaitlistState.INSTANCE;
         application.setState(waitlistState);
     }
 
@@ -63,7 +63,7 @@ public class WaitlistStateTest {
     public void testValidAcceptCommand() {
         Command acceptCommand = new Command(Command.CommandValue.ACCEPT, "reviewer", 
                 Command.Resolution.INTCOMPLETED, "Accepted for interview");
-        waitlistState.updateState(acceptCommand);
+        waitlistState.updateState(application, acceptCommand);
 
         assertEquals("Interview", application.getStateName());
         assertEquals("reviewer", application.getReviewer());
@@ -128,7 +128,7 @@ public class WaitlistStateTest {
     public void testTransitionToInterviewState() {
         Command acceptCommand = new Command(Command.CommandValue.ACCEPT, "reviewer", 
                 Command.Resolution.INTCOMPLETED, "Accepted for interview");
-        waitlistState.updateState(acceptCommand);
+        waitlistState.updateState(application, acceptCommand);
 
         assertEquals("Interview", application.getStateName());
     }
@@ -0,0 +1,68 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+/**
+ * Tests the AppBinaryFormat class.
+ */
+public class AppBinaryFormatTest {
+
+    private static final String VALID_FILE = "test-files/app1.txt";
+
+    @Test
+    public void testRoundTripThroughBinary() throws Exception {
+        File binary = File.createTempFile("apps", ".bin");
+        File text = File.createTempFile("apps", ".txt");
+        binary.deleteOnExit();
+        text.deleteOnExit();
+
+        AppBinaryFormat.convertToBinary(VALID_FILE, binary.getPath());
+        assertTrue(AppBinaryFormat.isBinary(binary.getPath()));
+        assertFalse(AppBinaryFormat.isBinary(VALID_FILE));
+
+        List<Application> expected = AppReader.readAppsFromFile(VALID_FILE);
+        List<Application> actual = AppReader.readAppsFromFile(binary.getPath());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getAppId(), actual.get(i).getAppId());
+            assertEquals(expected.get(i).getStateName(), actual.get(i).getStateName());
+            assertEquals(expected.get(i).getAppType(), actual.get(i).getAppType());
+            assertEquals(expected.get(i).getReviewer(), actual.get(i).getReviewer());
+            assertEquals(expected.get(i).isProcessed(), actual.get(i).isProcessed());
+            assertEquals(expected.get(i).getNotesString(), actual.get(i).getNotesString());
+        }
+
+        AppBinaryFormat.convertToText(binary.getPath(), text.getPath());
+        File direct = File.createTempFile("apps", ".txt");
+        direct.deleteOnExit();
+        AppWriter.writeAppsToFile(direct.getPath(), expected);
+        assertEquals(Files.readAllLines(direct.toPath()), Files.readAllLines(text.toPath()));
+    }
+
+    @Test
+    public void testReadSingleRecord() throws Exception {
+        File binary = File.createTempFile("apps", ".bin");
+        binary.deleteOnExit();
+        AppBinaryFormat.convertToBinary(VALID_FILE, binary.getPath());
+        Application app = AppBinaryFormat.read(binary.getPath(), 4);
+        assertEquals(16, app.getAppId());
+        assertEquals(Application.OFFER_NAME, app.getStateName());
+        assertThrows(IllegalArgumentException.class, () -> AppBinaryFormat.read(binary.getPath(), 6));
+    }
+
+    @Test
+    public void testTruncatedSnapshot() throws Exception {
+        File binary = File.createTempFile("apps", ".bin");
+        binary.deleteOnExit();
+        AppBinaryFormat.convertToBinary(VALID_FILE, binary.getPath());
+        byte[] bytes = Files.readAllBytes(binary.toPath());
+        Files.write(binary.toPath(), Arrays.copyOf(bytes, bytes.length - 5));
+        assertThrows(IllegalArgumentException.class, () -> AppReader.readAppsFromFile(binary.getPath()));
+    }
+}
@@ -0,0 +1,99 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.File;
+import java.io.StringWriter;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+/**
+ * Tests the AppFileGenerator class.
+ */
+public class AppFileGeneratorTest {
+
+    @Test
+    public void testFileReadsBackAsGenerated() throws Exception {
+        File file = File.createTempFile("generated", ".txt");
+        file.deleteOnExit();
+        AppFileGenerator generator = new AppFileGenerator(7).notes(1, 10).noteLines(1, 4);
+        generator.writeToFile(file.getPath(), 500);
+
+        List<Application> read = AppReader.readAppsFromFile(file.getPath());
+        List<Application> generated = generator.generate(500);
+        assertEquals(500, read.size());
+        for (int i = 0; i < read.size(); i++) {
+            Application expected = generated.get(i);
+            Application actual = read.get(i);
+            assertEquals(i + 1, actual.getAppId());
+            assertEquals(expected.getStateName(), actual.getStateName());
+            assertEquals(expected.getAppType(), actual.getAppType());
+            assertEquals(expected.getSummary(), actual.getSummary());
+            assertEquals(expected.getReviewer(), actual.getReviewer());
+            assertEquals(expected.isProcessed(), actual.isProcessed());
+            assertEquals(expected.getNotes(), actual.getNotes());
+        }
+    }
+
+    @Test
+    public void testSameSeedSameRecords() throws Exception {
+        StringWriter first = new StringWriter();
+        StringWriter second = new StringWriter();
+        StringWriter other = new StringWriter();
+        new AppFileGenerator(1).write(first, 100);
+        new AppFileGenerator(1).write(second, 100);
+        new AppFileGenerator(2).write(other, 100);
+        assertEquals(first.toString(), second.toString());
+        assertNotEquals(first.toString(), other.toString());
+    }
+
+    @Test
+    public void testRecordsAreConsistentWithTheirState() {
+        for (Application app : new AppFileGenerator(3).typeWeights(1, 1, 1).generate(2000)) {
+            String state = app.getStateName();
+            if (Application.A_NEW.equals(app.getAppType())) {
+                assertTrue(Application.REVIEW_NAME.equals(state) || Application.WAITLIST_NAME.equals(state)
+                        || Application.CLOSED_NAME.equals(state), state);
+                assertFalse(app.isProcessed());
+            }
+            if (Application.A_HIRED.equals(app.getAppType())) {
+                assertEquals(Application.CLOSED_NAME, state);
+            }
+            if (Application.REVIEW_NAME.equals(state)) {
+                assertNull(app.getReviewer());
+            }
+            if (Application.REFCHK_NAME.equals(state) || Application.OFFER_NAME.equals(state)) {
+                assertNotNull(app.getReviewer());
+                assertTrue(app.isProcessed());
+            }
+            List<String> notes = app.getNotes();
+            assertTrue(notes.get(notes.size() - 1).startsWith("[" + state + "] "));
+        }
+    }
+
+    @Test
+    public void testDistributionsAndShapes() {
+        List<Application> apps = new AppFileGenerator(4).stateWeights(0, 0, 0, 0, 0, 1).typeWeights(0, 1, 0)
+                .notes(3, 3).noteLines(2, 2).lineLength(10, 10).reviewers(1).generate(100);
+        for (Application app : apps) {
+            assertEquals(Application.CLOSED_NAME, app.getStateName());
+            assertEquals(Application.A_OLD, app.getAppType());
+            assertEquals(3, app.getNotes().size());
+            for (String note : app.getNotes()) {
+                assertEquals(2, note.split("\n").length, note);
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidSettings() {
+        AppFileGenerator generator = new AppFileGenerator(5);
+        assertThrows(IllegalArgumentException.class, () -> generator.stateWeights(1, 2, 3));
+        assertThrows(IllegalArgumentException.class, () -> generator.typeWeights(0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> generator.typeWeights(1, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> generator.notes(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> generator.noteLines(3, 2));
+        assertThrows(IllegalArgumentException.class, () -> generator.reviewers(0));
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(-1));
+    }
+}
@@ -0,0 +1,82 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+
+/**
+ * Tests the AppJournal class.
+ */
+public class AppJournalTest {
+
+    @Test
+    public void testReplayInOrder() throws Exception {
+        File file = File.createTempFile("apps", ".journal");
+        file.deleteOnExit();
+        Application app = new Application(3, Application.AppType.NEW, "Summary", "Note");
+        try (AppJournal journal = new AppJournal(file.getPath(), false)) {
+            journal.logAdd(app);
+            app.update(new Command(Command.CommandValue.ACCEPT, "reviewer", null, "Line one\nline two"));
+            journal.logCommand(app, new Command(Command.CommandValue.ACCEPT, "reviewer", null, "Line one\nline two"));
+            journal.logDelete(8);
+            assertEquals(3, journal.getEntryCount());
+        }
+
+        List<Application> put = new ArrayList<>();
+        List<Integer> deleted = new ArrayList<>();
+        assertEquals(3, AppJournal.replay(file.getPath(), put::add, deleted::add));
+        assertEquals(2, put.size());
+        assertEquals(Application.REVIEW_NAME, put.get(0).getStateName());
+        assertEquals(Application.INTERVIEW_NAME, put.get(1).getStateName());
+        assertEquals("reviewer", put.get(1).getReviewer());
+        assertEquals(app.getNotesString(), put.get(1).getNotesString());
+        assertEquals(8, deleted.get(0));
+    }
+
+    @Test
+    public void testTornEntryIsDropped() throws Exception {
+        File file = File.createTempFile("apps", ".journal");
+        file.deleteOnExit();
+        try (AppJournal journal = new AppJournal(file.getPath(), false)) {
+            journal.logDelete(1);
+        }
+        Files.write(file.toPath(), "D\t2".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        List<Integer> deleted = new ArrayList<>();
+        assertEquals(1, AppJournal.replay(file.getPath(), app -> fail(), deleted::add));
+
+        try (AppJournal journal = new AppJournal(file.getPath(), false)) {
+            journal.logDelete(3);
+        }
+        deleted.clear();
+        assertEquals(2, AppJournal.replay(file.getPath(), app -> fail(), deleted::add));
+        assertEquals(3, deleted.get(1));
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        File file = File.createTempFile("apps", ".journal");
+        file.deleteOnExit();
+        try (AppJournal journal = new AppJournal(file.getPath(), true)) {
+            journal.logDelete(1);
+            journal.clear();
+            assertEquals(0, journal.getEntryCount());
+            journal.logDelete(2);
+        }
+        List<Integer> deleted = new ArrayList<>();
+        assertEquals(1, AppJournal.replay(file.getPath(), app -> fail(), deleted::add));
+        assertEquals(2, deleted.get(0));
+    }
+
+    @Test
+    public void testReplayMissingJournal() {
+        assertEquals(0, AppJournal.replay("test-files/missing.journal", app -> fail(), id -> fail()));
+    }
+}
@@ -3,6 +3,7 @@ package edu.ncsu.csc216.app_manager.model.io;
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.jupiter.api.Test;
 import edu.ncsu.csc216.app_manager.model.application.Application;
 
@@ -50,4 +51,22 @@ public class AppReaderTest {
         assertEquals(3, apps.size());
         assertEquals("Application summary 1", apps.get(0).getSummary());
     }
+
+    @Test
+    public void testReadInParallelMatchesSerial() {
+        List<Application> serial = AppReader.readAppsFromFile(VALID_FILE);
+        List<Application> parallel = AppReader.readAppsFromFileInParallel(VALID_FILE, ForkJoinPool.commonPool());
+        assertEquals(serial.size(), parallel.size());
+        for (int i = 0; i < serial.size(); i++) {
+            assertEquals(serial.get(i).getAppId(), parallel.get(i).getAppId());
+            assertEquals(serial.get(i).getNotesString(), parallel.get(i).getNotesString());
+        }
+    }
+
+    @Test
+    public void testReadInParallelInvalidFile() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            AppReader.readAppsFromFileInParallel(MISSING_SUM, ForkJoinPool.commonPool());
+        });
+    }
 }
@@ -0,0 +1,58 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+/**
+ * Tests the AppStreamReader class.
+ */
+public class AppStreamReaderTest {
+
+    private static final String VALID_FILE = "test-files/app1.txt";
+
+    @Test
+    public void testReadValidFileOneRecordAtATime() throws Exception {
+        try (AppStreamReader reader = AppStreamReader.open(VALID_FILE)) {
+            int[] ids = { 1, 3, 7, 14, 16, 15 };
+            for (int id : ids) {
+                assertTrue(reader.hasNext());
+                assertEquals(id, reader.next().getAppId());
+            }
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    public void testMultiLineNotes() throws Exception {
+        try (AppStreamReader reader = AppStreamReader.open(VALID_FILE)) {
+            reader.next();
+            Application app = reader.next();
+            assertEquals("Application summary", app.getSummary());
+            assertEquals("reviewer", app.getReviewer());
+            assertEquals("- [Review] Note 1\n- [Interview] Note 2\nthat goes on a new line\n",
+                    app.getNotesString());
+        }
+    }
+
+    @Test
+    public void testMalformedHeader() throws Exception {
+        try (AppStreamReader reader = new AppStreamReader(new StringReader("*1,Review,New\n-[Review] Note\n"))) {
+            assertThrows(IllegalArgumentException.class, () -> reader.next());
+        }
+    }
+
+    @Test
+    public void testTextBeforeFirstRecord() throws Exception {
+        try (AppStreamReader reader = new AppStreamReader(
+                new StringReader("stray\n*1,Review,New,Summary,,false,\n-[Review] Note\n"))) {
+            assertThrows(IllegalArgumentException.class, () -> reader.hasNext());
+        }
+    }
+
+    @Test
+    public void testMissingFile() {
+        assertThrows(IllegalArgumentException.class, () -> AppStreamReader.open("test-files/app7.txt"));
+    }
+}
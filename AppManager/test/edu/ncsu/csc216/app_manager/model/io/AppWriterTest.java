@@ -1,13 +1,21 @@
 package edu.ncsu.csc216.app_manager.model.io;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import edu.ncsu.csc216.app_manager.model.application.Application;
 import java.util.ArrayList;
 import java.util.List;
 import java.io.File;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 /**
  * Tests the AppWriter class for various scenarios.
@@ -54,6 +62,37 @@ public class AppWriterTest {
         assertEquals(expected, actual);
     }
 
+    /**
+     * Saves applications whose summary, reviewer and notes hold the characters the
+     * file format uses, and checks that every reader loads them back unchanged.
+     */
+    @Test
+    public void testSavedSpecialCharactersLoadAgain() throws Exception {
+        File target = File.createTempFile("apps", ".txt");
+        target.deleteOnExit();
+        ArrayList<String> notes = new ArrayList<>();
+        notes.add("[Review] First line\n- not a new note\n* not a new record\n\\ kept");
+        notes.add("-Starts with a dash");
+        List<Application> apps = new ArrayList<>();
+        apps.add(new Application(1, Application.REVIEW_NAME, Application.A_NEW, "Smith, John", null, false,
+                null, notes));
+        apps.add(new Application(2, Application.INTERVIEW_NAME, Application.A_OLD, "Line\nbreak \\, end\\",
+                "jdoe,2", false, null, new ArrayList<>(List.of("Note"))));
+        AppWriter.writeAppsToFile(target.getPath(), apps);
+
+        List<List<Application>> loaded = List.of(AppReader.readAppsFromFile(target.getPath()),
+                AppReader.readAppsFromMappedFile(target.getPath()),
+                AppReader.readAppsFromFileInParallel(target.getPath(), ForkJoinPool.commonPool()));
+        for (List<Application> read : loaded) {
+            assertEquals(2, read.size());
+            assertEquals("Smith, John", read.get(0).getSummary());
+            assertEquals(notes, read.get(0).getNotes());
+            assertEquals("Line\nbreak \\, end\\", read.get(1).getSummary());
+            assertEquals("jdoe,2", read.get(1).getReviewer());
+            assertEquals(Application.INTERVIEW_NAME, read.get(1).getStateName());
+        }
+    }
+
     @Test
     public void testWriteToInvalidPath() {
         List<Application> apps = new ArrayList<>();
@@ -61,4 +100,82 @@ public class AppWriterTest {
             AppWriter.writeAppsToFile("/invalid-path/invalid.txt", apps);
         });
     }
+
+    /**
+     * Tests that atomic saves keep the requested number of previous versions,
+     * newest first, and drop older ones.
+     */
+    @Test
+    public void testWriteAtomicallyKeepsGenerations() throws Exception {
+        File target = File.createTempFile("apps", ".txt");
+        target.deleteOnExit();
+        List<Application> apps = new ArrayList<>();
+        for (int id = 1; id <= 3; id++) {
+            apps.add(new Application(id, Application.AppType.NEW, "Summary " + id, "Note"));
+            AppWriter.writeAppsToFileAtomically(target.getPath(), apps, true, 2);
+        }
+
+        assertEquals(3, AppReader.readAppsFromFile(target.getPath()).size());
+        File newest = new File(target.getPath() + ".1");
+        File oldest = new File(target.getPath() + ".2");
+        newest.deleteOnExit();
+        oldest.deleteOnExit();
+        assertEquals(2, AppReader.readAppsFromFile(newest.getPath()).size());
+        assertEquals(1, AppReader.readAppsFromFile(oldest.getPath()).size());
+        assertFalse(new File(target.getPath() + ".3").exists());
+    }
+
+    /**
+     * Tests that an atomic save into a missing directory is rejected.
+     */
+    @Test
+    public void testWriteAtomicallyToInvalidPath() {
+        List<Application> apps = new ArrayList<>();
+        assertThrows(IllegalArgumentException.class, () -> {
+            AppWriter.writeAppsToFileAtomically("/invalid-path/invalid.txt", apps, false, 0);
+        });
+    }
+
+    /**
+     * Tests that an atomic save keeps the permissions of the file it replaces.
+     */
+    @Test
+    public void testWriteAtomicallyKeepsPermissions() throws Exception {
+        File target = File.createTempFile("apps", ".txt");
+        target.deleteOnExit();
+        Path path = target.toPath();
+        assumeTrue(path.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r--r--");
+        Files.setPosixFilePermissions(path, permissions);
+
+        List<Application> apps = new ArrayList<>();
+        apps.add(new Application(1, Application.AppType.NEW, "Summary", "Note"));
+        AppWriter.writeAppsToFileAtomically(target.getPath(), apps, false, 0);
+        assertEquals(permissions, Files.getPosixFilePermissions(path));
+    }
+
+    /**
+     * Tests that a save whose rename fails leaves the previous versions in place
+     * and no temporary files behind.
+     * 
+     * @param dir A directory removed after the test.
+     */
+    @Test
+    public void testFailedSaveKeepsGenerations(@TempDir Path dir) throws Exception {
+        Path target = dir.resolve("apps.txt");
+        List<Application> apps = new ArrayList<>();
+        apps.add(new Application(1, Application.AppType.NEW, "Summary", "Note"));
+        AppWriter.writeAppsToFile(dir.resolve("apps.txt.1").toString(), apps);
+        // A non-empty directory cannot be replaced by the rename
+        Files.createDirectory(target);
+        Files.createFile(target.resolve("entry"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> AppWriter.writeAppsToFileAtomically(target.toString(), apps, false, 2));
+        assertEquals(1, AppReader.readAppsFromFile(dir.resolve("apps.txt.1").toString()).size());
+        assertFalse(Files.exists(dir.resolve("apps.txt.2")));
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(2, files.count());
+        }
+    }
 }
@@ -0,0 +1,53 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+/**
+ * Tests the MappedAppFile class.
+ */
+public class MappedAppFileTest {
+
+    private static final String VALID_FILE = "test-files/app1.txt";
+    private static final String INVALID_STATE = "test-files/app3.txt";
+
+    @Test
+    public void testHeaderFields() throws Exception {
+        try (MappedAppFile file = MappedAppFile.open(VALID_FILE)) {
+            assertEquals(6, file.size());
+            assertEquals(1, file.getAppId(0));
+            assertEquals(Application.REVIEW_NAME, file.getStateName(0));
+            assertEquals(Application.A_NEW, file.getAppType(0));
+            assertEquals(15, file.getAppId(5));
+            assertEquals(Application.CLOSED_NAME, file.getStateName(5));
+            assertEquals(Application.A_OLD, file.getAppType(5));
+        }
+    }
+
+    @Test
+    public void testMatchesStreamReader() {
+        List<Application> mapped = AppReader.readAppsFromMappedFile(VALID_FILE);
+        List<Application> streamed = AppReader.readAppsFromFile(VALID_FILE);
+        assertEquals(streamed.size(), mapped.size());
+        for (int i = 0; i < mapped.size(); i++) {
+            assertEquals(streamed.get(i).getAppId(), mapped.get(i).getAppId());
+            assertEquals(streamed.get(i).getStateName(), mapped.get(i).getStateName());
+            assertEquals(streamed.get(i).getNotesString(), mapped.get(i).getNotesString());
+        }
+    }
+
+    @Test
+    public void testInvalidState() throws Exception {
+        try (MappedAppFile file = MappedAppFile.open(INVALID_STATE)) {
+            assertThrows(IllegalArgumentException.class, () -> file.getStateName(0));
+        }
+        assertThrows(IllegalArgumentException.class, () -> AppReader.readAppsFromMappedFile(INVALID_STATE));
+    }
+
+    @Test
+    public void testMissingFile() {
+        assertThrows(IllegalArgumentException.class, () -> MappedAppFile.open("test-files/app7.txt"));
+    }
+}
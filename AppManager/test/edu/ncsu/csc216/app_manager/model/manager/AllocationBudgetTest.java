@@ -0,0 +1,139 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.io.AppFileGenerator;
+import edu.ncsu.csc216.app_manager.model.io.AppReader;
+import edu.ncsu.csc216.app_manager.model.io.AppWriter;
+
+/**
+ * Checks how many bytes the hot operations allocate, so that paths made
+ * allocation-free stay that way. Each operation is repeated until the JIT has
+ * compiled it, since escape analysis only removes short-lived objects from
+ * compiled code, and the quietest round is compared with the budget.
+ */
+public class AllocationBudgetTest {
+    /** Applications in the list */
+    private static final int APPS = 4000;
+    /** Measured rounds of each operation */
+    private static final int ROUNDS = 30;
+
+    /** Allocation counter of the current thread */
+    private static com.sun.management.ThreadMXBean threads;
+    /** File holding APPS applications in Review */
+    private static File reviewFile;
+    /** File holding APPS applications in any state */
+    private static File mixedFile;
+
+    /**
+     * Writes the data files, or skips the tests if the JVM cannot count allocations.
+     *
+     * @throws IOException if a file cannot be created.
+     */
+    @BeforeAll
+    public static void setUp() throws IOException {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        reviewFile = File.createTempFile("review", ".txt");
+        reviewFile.deleteOnExit();
+        new AppFileGenerator(11).stateWeights(1, 0, 0, 0, 0, 0).writeToFile(reviewFile.getPath(), APPS);
+        mixedFile = File.createTempFile("mixed", ".txt");
+        mixedFile.deleteOnExit();
+        new AppFileGenerator(12).writeToFile(mixedFile.getPath(), APPS);
+    }
+
+    @Test
+    public void testLookupAllocatesNothing() {
+        AppManager manager = load(mixedFile);
+        long bytes = measure(() -> {
+            for (int id = 1; id <= APPS; id++) {
+                manager.getAppById(id);
+            }
+        });
+        assertEquals(0, bytes, "bytes allocated by " + APPS + " lookups");
+    }
+
+    @Test
+    public void testSavePerRecord() {
+        List<Application> apps = AppReader.readAppsFromFile(mixedFile.getPath());
+        Writer sink = Writer.nullWriter();
+        long bytes = measure(() -> {
+            try {
+                AppWriter.writeApps(sink, apps);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        // Scratch space for the ids is allocated once per call, not per record
+        assertEquals(0, bytes / APPS, "bytes allocated writing " + APPS + " records: " + bytes);
+    }
+
+    @Test
+    public void testTableExportPerRow() {
+        AppManager manager = load(mixedFile);
+        // An Object[4] row, its slot in the table and a boxed id
+        long perRow = measure(manager::getAppListAsArray) / APPS;
+        assertTrue(perRow <= 56, "bytes per exported row: " + perRow);
+    }
+
+    @Test
+    public void testCommandExecution() {
+        Command accept = new Command(Command.CommandValue.ACCEPT, "reviewer", null, "Accepted");
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            AppManager manager = load(reviewFile);
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int id = 1; id <= APPS; id++) {
+                manager.executeCommand(id, accept);
+            }
+            best = Math.min(best, threads.getCurrentThreadAllocatedBytes() - before);
+        }
+        best /= APPS;
+        // The stamped note and its text after the prefix, and the growth of the
+        // note array and of the Interview index
+        assertTrue(best <= 320, "bytes per executeCommand: " + best);
+    }
+
+    /**
+     * Loads a data file into a new list of the manager.
+     *
+     * @param file The file to load.
+     * @return The manager.
+     */
+    private static AppManager load(File file) {
+        AppManager manager = AppManager.getInstance();
+        manager.closeJournal();
+        manager.createNewAppList();
+        manager.loadAppsFromFile(file.getPath());
+        return manager;
+    }
+
+    /**
+     * Runs a round of operations repeatedly and finds the fewest bytes one round
+     * allocated.
+     *
+     * @param round Runs one round.
+     * @return Bytes allocated by the quietest round.
+     */
+    private static long measure(Runnable round) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            round.run();
+            best = Math.min(best, threads.getCurrentThreadAllocatedBytes() - before);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,79 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.io.AppFileGenerator;
+
+/**
+ * Tests the Flight Recorder events AppManager emits through its file and bulk
+ * operations.
+ */
+public class AppBulkEventTest {
+
+    @Test
+    public void testLoadBulkAndSaveRecorded() throws Exception {
+        File input = File.createTempFile("bulk", ".txt");
+        File output = File.createTempFile("bulk", ".txt");
+        input.deleteOnExit();
+        output.deleteOnExit();
+        new AppFileGenerator(9).writeToFile(input.getPath(), 50);
+        Path file = Files.createTempFile("bulk", ".jfr");
+
+        AppManager manager = AppManager.getInstance();
+        manager.createNewAppList();
+        try (Recording recording = new Recording()) {
+            recording.enable("edu.ncsu.csc216.app_manager.Load");
+            recording.enable("edu.ncsu.csc216.app_manager.Save");
+            recording.enable("edu.ncsu.csc216.app_manager.Bulk");
+            recording.start();
+            manager.loadAppsFromFile(input.getPath());
+            manager.executeCommands(new CommandBatch()
+                    .add(1, new Command(Command.CommandValue.REOPEN, null, null, "Reopened"))
+                    .add(999, new Command(Command.CommandValue.REOPEN, null, null, "Reopened")));
+            manager.saveAppsToFile(output.getPath());
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        Map<String, RecordedEvent> byName = new HashMap<>();
+        for (RecordedEvent event : events) {
+            String name = event.getEventType().getName();
+            String key = name.endsWith("Bulk") ? event.getString("operation")
+                    : name.substring(name.lastIndexOf('.') + 1);
+            byName.put(key, event);
+        }
+
+        RecordedEvent load = byName.get("Load");
+        assertEquals(input.getPath(), load.getString("file"));
+        assertEquals("stream", load.getString("mode"));
+        assertEquals(50, load.getInt("records"));
+        assertEquals(input.length(), load.getLong("bytes"));
+
+        RecordedEvent added = byName.get("addApps");
+        assertEquals(50, added.getInt("items"));
+        assertEquals(0, added.getInt("failures"));
+
+        RecordedEvent batch = byName.get("executeCommands");
+        assertEquals(2, batch.getInt("items"));
+        assertTrue(batch.getInt("failures") >= 1);
+        assertFalse(batch.getBoolean("parallel"));
+
+        RecordedEvent save = byName.get("Save");
+        assertEquals(output.getPath(), save.getString("file"));
+        assertEquals("text", save.getString("format"));
+        assertTrue(save.getBoolean("atomic"));
+        assertEquals(50, save.getInt("records"));
+        assertEquals(output.length(), save.getLong("bytes"));
+    }
+}
@@ -0,0 +1,76 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+/**
+ * Tests the AppIndex class.
+ */
+public class AppIndexTest {
+
+    @Test
+    public void testPutAndGet() {
+        AppIndex index = new AppIndex();
+        for (int id = 1; id <= 1000; id++) {
+            index.put(new Application(id, Application.AppType.NEW, "Summary " + id, "Note"));
+        }
+        assertEquals(1000, index.size());
+        for (int id = 1; id <= 1000; id++) {
+            assertEquals(id, index.get(id).getAppId());
+        }
+        assertNull(index.get(0));
+        assertNull(index.get(1001));
+    }
+
+    @Test
+    public void testRemoveKeepsOtherEntriesReachable() {
+        AppIndex index = new AppIndex();
+        for (int id = 1; id <= 500; id++) {
+            index.put(new Application(id, Application.AppType.NEW, "Summary " + id, "Note"));
+        }
+        for (int id = 1; id <= 500; id += 2) {
+            assertNotNull(index.remove(id));
+        }
+        assertNull(index.remove(1));
+        assertEquals(250, index.size());
+        for (int id = 1; id <= 500; id++) {
+            if (id % 2 == 0) {
+                assertEquals(id, index.get(id).getAppId());
+            } else {
+                assertNull(index.get(id));
+            }
+        }
+    }
+
+    @Test
+    public void testPutReplacesExistingId() {
+        AppIndex index = new AppIndex();
+        Application first = new Application(7, Application.AppType.NEW, "First", "Note");
+        Application second = new Application(7, Application.AppType.OLD, "Second", "Note");
+        index.put(first);
+        index.put(second);
+        assertEquals(1, index.size());
+        assertSame(second, index.get(7));
+    }
+
+    @Test
+    public void testAddValuesToAfterShrinking() {
+        AppIndex index = new AppIndex();
+        for (int id = 1; id <= 1000; id++) {
+            index.put(new Application(id, Application.AppType.NEW, "Summary " + id, "Note"));
+        }
+        for (int id = 1; id <= 990; id++) {
+            index.remove(id);
+        }
+        List<Application> values = new ArrayList<>();
+        index.addValuesTo(values);
+        assertEquals(10, values.size());
+        values.sort((x, y) -> Integer.compare(x.getAppId(), y.getAppId()));
+        for (int i = 0; i < values.size(); i++) {
+            assertSame(index.get(991 + i), values.get(i));
+        }
+    }
+}
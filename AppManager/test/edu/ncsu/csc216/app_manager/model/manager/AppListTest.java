@@ -1,5 +1,205 @@
 package edu.ncsu.csc216.app_manager.model.manager;
 
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+
+/**
+ * Tests the AppList class.
+ */
 public class AppListTest {
 
+    /**
+     * Creates an application with the given id and summary.
+     */
+    private static Application app(int id, String summary) {
+        return new Application(id, Application.AppType.NEW, summary, "Note");
+    }
+
+    @Test
+    public void testAddAppsSortsAndIgnoresDuplicates() {
+        List<Application> apps = new ArrayList<>();
+        apps.add(app(5, "First 5"));
+        apps.add(app(2, "Two"));
+        apps.add(app(9, "Nine"));
+        apps.add(app(5, "Second 5"));
+
+        AppList list = new AppList();
+        list.addApps(apps);
+
+        List<Application> result = list.getApplications();
+        assertEquals(3, result.size());
+        assertEquals(2, result.get(0).getAppId());
+        assertEquals(5, result.get(1).getAppId());
+        assertEquals(9, result.get(2).getAppId());
+        assertEquals("First 5", list.getAppById(5).getSummary());
+    }
+
+    @Test
+    public void testAddAppsMergesIntoExistingList() {
+        AppList list = new AppList();
+        List<Application> first = new ArrayList<>();
+        first.add(app(1, "One"));
+        first.add(app(4, "Four"));
+        list.addApps(first);
+
+        List<Application> second = new ArrayList<>();
+        second.add(app(3, "Three"));
+        second.add(app(4, "Other Four"));
+        second.add(app(6, "Six"));
+        list.addApps(second);
+
+        List<Application> result = list.getApplications();
+        assertEquals(4, result.size());
+        assertEquals(1, result.get(0).getAppId());
+        assertEquals(3, result.get(1).getAppId());
+        assertEquals(4, result.get(2).getAppId());
+        assertEquals(6, result.get(3).getAppId());
+        assertEquals("Four", list.getAppById(4).getSummary());
+    }
+
+    @Test
+    public void testDeleteAppById() {
+        AppList list = new AppList();
+        List<Application> apps = new ArrayList<>();
+        apps.add(app(1, "One"));
+        apps.add(app(2, "Two"));
+        apps.add(app(3, "Three"));
+        list.addApps(apps);
+
+        list.deleteAppById(2);
+        assertNull(list.getAppById(2));
+        assertEquals(2, list.getApplications().size());
+        assertEquals(3, list.getApplications().get(1).getAppId());
+
+        list.deleteAppById(42);
+        assertEquals(2, list.getApplications().size());
+    }
+
+    @Test
+    public void testSnapshotIsUnaffectedByLaterChanges() {
+        AppList list = new AppList();
+        List<Application> apps = new ArrayList<>();
+        apps.add(app(2, "Two"));
+        apps.add(app(4, "Four"));
+        apps.add(app(6, "Six"));
+        list.addApps(apps);
+
+        List<Application> snapshot = list.getApplications();
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(app(8, "Eight")));
+
+        list.deleteAppById(2);
+        list.addApp(Application.AppType.OLD, "Seven", "Note");
+        List<Application> more = new ArrayList<>();
+        more.add(app(5, "Five"));
+        list.addApps(more);
+
+        assertEquals(3, snapshot.size());
+        assertEquals(2, snapshot.get(0).getAppId());
+        assertEquals(4, snapshot.get(1).getAppId());
+        assertEquals(6, snapshot.get(2).getAppId());
+
+        List<Application> current = list.getApplications();
+        assertEquals(4, current.size());
+        assertEquals(4, current.get(0).getAppId());
+        assertEquals(5, current.get(1).getAppId());
+        assertEquals(6, current.get(2).getAppId());
+        assertEquals(7, current.get(3).getAppId());
+    }
+
+    @Test
+    public void testIndexesFollowAddDeleteAndCommands() {
+        AppList list = new AppList();
+        List<Application> apps = new ArrayList<>();
+        apps.add(app(1, "One"));
+        apps.add(app(2, "Two"));
+        apps.add(new Application(3, Application.AppType.OLD, "Three", "Note"));
+        list.addApps(apps);
+
+        assertEquals(2, list.getApplicationsByType(Application.AppType.NEW).size());
+        assertEquals(3, list.getApplicationsByType(Application.AppType.OLD).get(0).getAppId());
+        assertEquals(3, list.getApplicationsByState(Application.REVIEW_NAME).size());
+        assertTrue(list.getApplicationsByReviewer("jdoe").isEmpty());
+
+        list.executeCommand(2, new Command(Command.CommandValue.ACCEPT, "jdoe", null, "Accepted"));
+        assertEquals(2, list.getApplicationsByState(Application.REVIEW_NAME).size());
+        List<Application> interview = list.getApplicationsByState(Application.INTERVIEW_NAME);
+        assertEquals(1, interview.size());
+        assertEquals(2, interview.get(0).getAppId());
+        assertEquals(2, list.getApplicationsByReviewer("jdoe").get(0).getAppId());
+
+        list.deleteAppById(2);
+        assertTrue(list.getApplicationsByState(Application.INTERVIEW_NAME).isEmpty());
+        assertTrue(list.getApplicationsByReviewer("jdoe").isEmpty());
+        assertEquals(1, list.getApplicationsByType(Application.AppType.NEW).size());
+        assertThrows(IllegalArgumentException.class, () -> list.getApplicationsByState("Unknown"));
+    }
+
+    @Test
+    public void testRowsAndCountsFromEitherStorage() {
+        for (AppList.Storage storage : AppList.Storage.values()) {
+            AppList list = new AppList(storage);
+            assertEquals(storage, list.getStorage());
+            List<Application> apps = new ArrayList<>();
+            apps.add(app(4, "Four"));
+            apps.add(new Application(2, Application.AppType.OLD, "Two", "Note"));
+            apps.add(app(6, "Six"));
+            list.addApps(apps);
+            list.executeCommand(4, new Command(Command.CommandValue.ACCEPT, "jdoe", null, "Accepted"));
+            assertThrows(UnsupportedOperationException.class,
+                    () -> list.executeCommand(6, new Command(Command.CommandValue.REOPEN, null, null, "Reopen")));
+
+            Object[][] rows = list.getApplicationsAsArray(null, null);
+            assertEquals(3, rows.length);
+            assertArrayEquals(new Object[] { 2, Application.REVIEW_NAME, Application.A_OLD, "Two" }, rows[0]);
+            assertArrayEquals(new Object[] { 4, Application.INTERVIEW_NAME, Application.A_NEW, "Four" }, rows[1]);
+            assertArrayEquals(new Object[] { 6, Application.REVIEW_NAME, Application.A_NEW, "Six" }, rows[2]);
+
+            Object[][] newInReview = list.getApplicationsAsArray(Application.AppType.NEW, Application.REVIEW_NAME);
+            assertEquals(1, newInReview.length);
+            assertEquals(6, newInReview[0][0]);
+            assertEquals(2, list.getApplicationsAsArray(Application.AppType.NEW, null).length);
+            Object[][] byReviewer = list.getApplicationsAsArray(null, null, "jdoe");
+            assertEquals(1, byReviewer.length);
+            assertEquals(4, byReviewer[0][0]);
+            assertEquals(0, list.getApplicationsAsArray(null, Application.REVIEW_NAME, "jdoe").length);
+            assertEquals(0, list.getApplicationsAsArray(null, null, "nobody").length);
+            assertThrows(IllegalArgumentException.class, () -> list.getApplicationsAsArray(null, "Unknown"));
+
+            list.deleteAppById(2);
+            assertEquals(1, list.countByState().get(Application.REVIEW_NAME));
+            assertEquals(1, list.countByState().get(Application.INTERVIEW_NAME));
+            assertEquals(0, list.countByState().get(Application.CLOSED_NAME));
+        }
+    }
+
+    @Test
+    public void testColumnsFollowConcurrentCommands() throws Exception {
+        AppList list = new AppList(AppList.Storage.COLUMNS);
+        List<Application> apps = new ArrayList<>();
+        for (int id = 1; id <= 4000; id++) {
+            apps.add(app(id, "Summary"));
+        }
+        list.addApps(apps);
+        Command accept = new Command(Command.CommandValue.ACCEPT, "jdoe", null, "Accepted");
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int first = t;
+            // Each thread owns every fourth application, so no two touch the same one
+            threads[t] = new Thread(() -> {
+                for (int id = first + 1; id <= 4000; id += threads.length) {
+                    list.executeCommand(list.getAppById(id), accept);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(4000, list.countByState().get(Application.INTERVIEW_NAME));
+        assertEquals(4000, list.getApplicationsAsArray(null, Application.INTERVIEW_NAME, "jdoe").length);
+    }
 }
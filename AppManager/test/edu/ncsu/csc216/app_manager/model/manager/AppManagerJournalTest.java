@@ -0,0 +1,184 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.io.AppJournal;
+import edu.ncsu.csc216.app_manager.model.io.AppReader;
+import edu.ncsu.csc216.app_manager.model.io.AppWriter;
+
+/**
+ * Tests the journaling of changes made through the AppManager.
+ */
+public class AppManagerJournalTest {
+
+    @AfterEach
+    public void tearDown() {
+        AppManager.getInstance().closeJournal();
+        AppManager.getInstance().setCompactionThreshold(AppManager.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Tests that adds, deletes and accepted commands are journaled as the
+     * applications they produce, and that rejected commands are not journaled.
+     */
+    @Test
+    public void testChangesAreJournaledAsTheyWouldBeApplied() throws Exception {
+        File snapshot = File.createTempFile("apps", ".txt");
+        snapshot.deleteOnExit();
+        new File(snapshot.getPath() + AppManager.JOURNAL_SUFFIX).deleteOnExit();
+        AppWriter.writeAppsToFile(snapshot.getPath(), List.of(new Application(1, AppType.NEW, "Summary", "Note"),
+                new Application(2, AppType.NEW, "Summary", "Note")));
+        AppManager manager = AppManager.getInstance();
+        manager.openJournaled(snapshot.getPath(), false);
+
+        manager.executeCommand(1, new Command(Command.CommandValue.ACCEPT, "reviewer", null, "Accepted"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> manager.executeCommand(2, new Command(Command.CommandValue.REOPEN, null, null, "Reopen")));
+        BatchResult result = manager.executeCommands(new CommandBatch()
+                .add(2, new Command(Command.CommandValue.REOPEN, null, null, "Reopen"))
+                .add(2, new Command(Command.CommandValue.ACCEPT, "other", null, "Accepted")));
+        assertEquals(1, result.getFailureCount());
+        manager.deleteAppById(1);
+
+        List<Application> put = new ArrayList<>();
+        List<Integer> deleted = new ArrayList<>();
+        assertEquals(3, AppJournal.replay(snapshot.getPath() + AppManager.JOURNAL_SUFFIX, put::add, deleted::add));
+        assertEquals(2, put.size());
+        assertEquals(Application.INTERVIEW_NAME, put.get(0).getStateName());
+        assertEquals(manager.getAppById(2).getNotes(), put.get(1).getNotes());
+        assertEquals("other", put.get(1).getReviewer());
+        assertEquals(List.of(1), deleted);
+        assertNull(manager.getAppById(1));
+    }
+
+    /**
+     * Tests that single and batched commands compact the journal into the
+     * snapshot once it holds the threshold's worth of entries.
+     */
+    @Test
+    public void testCommandsCompactOnceTheThresholdIsReached() throws Exception {
+        File snapshot = File.createTempFile("apps", ".txt");
+        snapshot.deleteOnExit();
+        String journal = snapshot.getPath() + AppManager.JOURNAL_SUFFIX;
+        new File(journal).deleteOnExit();
+        List<Application> apps = new ArrayList<>();
+        for (int id = 1; id <= 3; id++) {
+            apps.add(new Application(id, AppType.NEW, "Summary", "Note"));
+        }
+        AppWriter.writeAppsToFile(snapshot.getPath(), apps);
+        AppManager manager = AppManager.getInstance();
+        manager.openJournaled(snapshot.getPath(), false);
+        manager.setCompactionThreshold(3);
+
+        manager.executeCommand(1, new Command(Command.CommandValue.ACCEPT, "reviewer", null, "Accepted"));
+        manager.executeCommands(new CommandBatch()
+                .add(2, new Command(Command.CommandValue.ACCEPT, "reviewer", null, "Accepted")));
+        assertEquals(2, AppJournal.replay(journal, app -> { }, id -> { }));
+        manager.executeCommand(3, new Command(Command.CommandValue.ACCEPT, "reviewer", null, "Accepted"));
+        assertEquals(0, AppJournal.replay(journal, app -> { }, id -> { }));
+
+        List<Application> saved = AppReader.readAppsFromFile(snapshot.getPath());
+        for (Application app : saved) {
+            assertEquals(Application.INTERVIEW_NAME, app.getStateName());
+        }
+    }
+
+    /**
+     * Tests that records holding the separators of the file format replay from
+     * the journal and load again when the snapshot is reopened.
+     */
+    @Test
+    public void testSeparatorsInRecordsReplay() throws Exception {
+        File snapshot = File.createTempFile("apps", ".txt");
+        snapshot.deleteOnExit();
+        String journal = snapshot.getPath() + AppManager.JOURNAL_SUFFIX;
+        new File(journal).deleteOnExit();
+        AppWriter.writeAppsToFile(snapshot.getPath(),
+                List.of(new Application(1, AppType.NEW, "Smith, John", "First\n- not a note")));
+        AppManager manager = AppManager.getInstance();
+        manager.openJournaled(snapshot.getPath(), false);
+        manager.addAppToList(AppType.OLD, "Doe, Jane", "Line one\n* not a record");
+        manager.executeCommand(1, new Command(Command.CommandValue.ACCEPT, "reviewer", null, "Accepted\n-x"));
+
+        List<Application> put = new ArrayList<>();
+        assertEquals(2, AppJournal.replay(journal, put::add, id -> { }));
+        assertEquals("Doe, Jane", put.get(0).getSummary());
+        assertEquals(List.of("Line one\n* not a record"), put.get(0).getNotes());
+        assertEquals(manager.getAppById(1).getNotes(), put.get(1).getNotes());
+
+        // Reopening reads the snapshot and replays the journal before compacting it
+        manager.openJournaled(snapshot.getPath(), false);
+        assertEquals("Smith, John", manager.getAppById(1).getSummary());
+        assertEquals(Application.INTERVIEW_NAME, manager.getAppById(1).getStateName());
+        assertEquals("Doe, Jane", manager.getAppById(2).getSummary());
+        manager.closeJournal();
+        assertEquals(2, AppReader.readAppsFromFile(snapshot.getPath()).size());
+    }
+
+    /**
+     * Tests that opening a snapshot that cannot be read keeps the current list
+     * and goes on journaling to its journal.
+     */
+    @Test
+    public void testFailedOpenKeepsTheListAndJournal() throws Exception {
+        File snapshot = File.createTempFile("apps", ".txt");
+        snapshot.deleteOnExit();
+        new File(snapshot.getPath() + AppManager.JOURNAL_SUFFIX).deleteOnExit();
+        AppWriter.writeAppsToFile(snapshot.getPath(), List.of(new Application(1, AppType.NEW, "Summary", "Note")));
+        File broken = File.createTempFile("broken", ".txt");
+        broken.deleteOnExit();
+        Files.writeString(broken.toPath(), "not a record\n");
+        AppManager manager = AppManager.getInstance();
+        manager.openJournaled(snapshot.getPath(), false);
+
+        assertThrows(IllegalArgumentException.class, () -> manager.openJournaled(broken.getPath(), false));
+        assertFalse(new File(broken.getPath() + AppManager.JOURNAL_SUFFIX).exists());
+        manager.executeCommand(1, new Command(Command.CommandValue.ACCEPT, "reviewer", null, "Accepted"));
+        assertEquals(1, AppJournal.replay(snapshot.getPath() + AppManager.JOURNAL_SUFFIX, app -> { }, id -> { }));
+    }
+
+    /**
+     * Tests that a failed compaction is kept for getCompactionFailure instead of
+     * failing the command that triggered it, and is tried again after the next entry.
+     *
+     * @param dir A directory removed after the test.
+     */
+    @Test
+    public void testFailedCompactionDoesNotFailTheCommand(@TempDir Path dir) throws Exception {
+        Path snapshot = dir.resolve("apps.txt");
+        AppWriter.writeAppsToFile(snapshot.toString(), List.of(new Application(1, AppType.NEW, "Summary", "Note"),
+                new Application(2, AppType.NEW, "Summary", "Note")));
+        AppManager manager = AppManager.getInstance();
+        manager.openJournaled(snapshot.toString(), false);
+        manager.setCompactionThreshold(1);
+        // A non-empty directory cannot be replaced by the saved snapshot
+        Files.delete(snapshot);
+        Files.createDirectory(snapshot);
+        Files.createFile(snapshot.resolve("entry"));
+
+        manager.executeCommand(1, new Command(Command.CommandValue.ACCEPT, "reviewer", null, "Accepted"));
+        assertEquals(Application.INTERVIEW_NAME, manager.getAppById(1).getStateName());
+        assertNotNull(manager.getCompactionFailure());
+        BatchResult result = manager.executeCommands(new CommandBatch()
+                .add(2, new Command(Command.CommandValue.ACCEPT, "reviewer", null, "Accepted")));
+        assertEquals(0, result.getFailureCount());
+        assertEquals(2, AppJournal.replay(snapshot + AppManager.JOURNAL_SUFFIX, app -> { }, id -> { }));
+
+        Files.delete(snapshot.resolve("entry"));
+        Files.delete(snapshot);
+        manager.deleteAppById(2);
+        assertNull(manager.getCompactionFailure());
+        assertEquals(0, AppJournal.replay(snapshot + AppManager.JOURNAL_SUFFIX, app -> { }, id -> { }));
+        assertEquals(1, AppReader.readAppsFromFile(snapshot.toString()).size());
+    }
+}
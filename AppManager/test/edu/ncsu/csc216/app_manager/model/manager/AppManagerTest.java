@@ -1,10 +1,19 @@
 package edu.ncsu.csc216.app_manager.model.manager;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -79,4 +88,101 @@ public class AppManagerTest {
         assertEquals(1, oldApps.length);
         assertEquals("Old App", oldApps[0][3]);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testConcurrentUse() throws Exception {
+        manager.loadAppsFromFile("test-files/app1.txt");
+        int existing = manager.getAppListAsArray().length;
+        int threads = 4;
+        int perThread = 200;
+        ExecutorService pool = Executors.newFixedThreadPool(threads * 2);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(pool.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        manager.addAppToList(Application.AppType.NEW, "App " + i, "Note " + i);
+                    }
+                }));
+                tasks.add(pool.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        for (Object[] row : manager.getAppListAsArray()) {
+                            int id = (Integer) row[0];
+                            if (Application.REVIEW_NAME.equals(row[1])) {
+                                manager.executeCommand(id,
+                                        new Command(Command.CommandValue.ACCEPT, "reviewer", null, "Accepted"));
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        Object[][] apps = manager.getAppListAsArray();
+        assertEquals(existing + threads * perThread, apps.length);
+        Set<Object> ids = new HashSet<>();
+        for (Object[] row : apps) {
+            assertTrue(ids.add(row[0]));
+        }
+    }
+
+    @Test
+    public void testExecuteCommands() {
+        manager.loadAppsFromFile("test-files/app1.txt");
+        CommandBatch batch = new CommandBatch()
+                .add(1, new Command(Command.CommandValue.ACCEPT, "reviewer", null, "Accepted"))
+                .add(1, new Command(Command.CommandValue.REOPEN, null, null, "Reopened"))
+                .add(999, new Command(Command.CommandValue.ACCEPT, "reviewer", null, "Accepted"));
+
+        BatchResult result = manager.executeCommands(batch);
+        assertEquals(3, result.size());
+        assertTrue(result.isSuccess(0));
+        assertFalse(result.isSuccess(1));
+        assertTrue(result.getFailure(1) instanceof UnsupportedOperationException);
+        assertTrue(result.getFailure(2) instanceof IllegalArgumentException);
+        assertEquals(1, result.getSuccessCount());
+        assertEquals(2, result.getFailureCount());
+        assertEquals(Application.INTERVIEW_NAME, manager.getAppById(1).getStateName());
+    }
+
+    @Test
+    public void testExecuteCommandsInParallel() {
+        manager.loadAppsFromFile("test-files/app1.txt");
+        for (int i = 0; i < 1000; i++) {
+            manager.addAppToList(Application.AppType.NEW, "App " + i, "Note " + i);
+        }
+        CommandBatch batch = new CommandBatch();
+        for (Object[] row : manager.getAppListAsArray()) {
+            if (Application.REVIEW_NAME.equals(row[1])) {
+                batch.add((Integer) row[0], new Command(Command.CommandValue.ACCEPT, "reviewer", null, "Accepted"));
+            }
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        BatchResult result;
+        try {
+            result = manager.executeCommands(batch, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(batch.size(), result.getSuccessCount());
+        for (Object[] row : manager.getAppListAsArray()) {
+            assertFalse(Application.REVIEW_NAME.equals(row[1]));
+        }
+    }
+
+    @Test
+    public void testGetAppListAsArrayByAppTypeEnum() {
+        manager.loadAppsFromFile("test-files/app1.txt");
+        Object[][] newApps = manager.getAppListAsArrayByAppType(Application.AppType.NEW);
+        assertEquals(2, newApps.length);
+        assertEquals(1, newApps[0][0]);
+        assertEquals(14, newApps[1][0]);
+        assertEquals(4, manager.getAppListAsArrayByAppType(Application.AppType.OLD).length);
+        assertEquals(0, manager.getAppListAsArrayByAppType(Application.AppType.HIRED).length);
+    }
+}
@@ -0,0 +1,109 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import org.junit.jupiter.api.Test;
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.io.AppWriter;
+
+/**
+ * Tests the AppMetrics class through the AppManager it measures.
+ */
+public class AppMetricsTest {
+
+    @Test
+    public void testRecordsManagerOperations() throws Exception {
+        AppManager manager = AppManager.getInstance();
+        manager.createNewAppList();
+        AppMetrics metrics = manager.getMetrics();
+        metrics.reset();
+        metrics.setSampleInterval(1);
+
+        File file = File.createTempFile("metrics", ".txt");
+        file.deleteOnExit();
+        AppWriter.writeAppsToFile(file.getPath(), List.of(new Application(1, AppType.NEW, "Summary", "Note"),
+                new Application(2, AppType.NEW, "Summary", "Note")));
+        manager.loadAppsFromFile(file.getPath());
+        for (int i = 0; i < 100; i++) {
+            manager.getAppById(1);
+        }
+        manager.executeCommand(1, new Command(Command.CommandValue.ACCEPT, "reviewer", null, "Accepted"));
+        manager.executeCommands(new CommandBatch()
+                .add(2, new Command(Command.CommandValue.REOPEN, null, null, "Reopened")));
+        manager.saveAppsToFile(file.getPath());
+        manager.createNewAppList();
+        manager.loadAppsFromFile(file.getPath());
+
+        assertEquals(2, metrics.getListSize());
+        assertEquals(100, metrics.getLookupLatency().getCount());
+        assertEquals(1, metrics.getCommandLatency().getCount());
+        assertEquals(1, metrics.getBatchLatency().getCount());
+        assertEquals(1, metrics.getSaveLatency().getSamples());
+        assertEquals(2, metrics.getLoadLatency().getSamples());
+        assertTrue(metrics.getLoadLatency().getMaxNanos() > 0);
+        assertEquals(1L, metrics.getTransitionCounts().get("Review ACCEPT Interview"));
+        assertEquals(1L, metrics.getRejectionCounts().get("Review REOPEN"));
+        metrics.setSampleInterval(AppMetrics.DEFAULT_SAMPLE_INTERVAL);
+
+        String dump = metrics.dump();
+        assertTrue(dump.contains("list.size 2\n"), dump);
+        assertTrue(dump.contains("latency.lookup count=100 "), dump);
+        assertTrue(dump.contains("transition Review ACCEPT Interview 1\n"), dump);
+        assertTrue(dump.contains("rejected Review REOPEN 1\n"), dump);
+    }
+
+    @Test
+    public void testDisabledRecordsNothing() {
+        AppManager manager = AppManager.getInstance();
+        AppMetrics metrics = manager.getMetrics();
+        metrics.reset();
+        metrics.setEnabled(false);
+        try {
+            manager.getAppById(1);
+        } finally {
+            metrics.setEnabled(true);
+        }
+        assertEquals(0, metrics.getLookupLatency().getCount());
+    }
+
+    @Test
+    public void testSampledLookupsAreEstimated() {
+        AppManager manager = AppManager.getInstance();
+        AppMetrics metrics = manager.getMetrics();
+        metrics.reset();
+        assertThrows(IllegalArgumentException.class, () -> metrics.setSampleInterval(3));
+        metrics.setSampleInterval(4);
+        try {
+            for (int i = 0; i < 40_000; i++) {
+                manager.getAppById(1);
+            }
+        } finally {
+            metrics.setSampleInterval(AppMetrics.DEFAULT_SAMPLE_INTERVAL);
+        }
+        LatencySnapshot lookup = metrics.getLookupLatency();
+        assertEquals(4 * lookup.getSamples(), lookup.getCount());
+        assertEquals(40_000, lookup.getCount(), 2_000);
+    }
+
+    @Test
+    public void testPublishedOverJmx() throws Exception {
+        AppManager manager = AppManager.getInstance();
+        manager.getMetrics().register();
+        manager.getMetrics().register();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(AppMetrics.OBJECT_NAME);
+
+        assertTrue(server.isRegistered(name));
+        assertTrue((Long) server.getAttribute(name, "HeapUsedBytes") > 0);
+        CompositeData lookup = (CompositeData) server.getAttribute(name, "LookupLatency");
+        assertTrue(lookup.containsKey("p99Nanos"));
+        assertTrue(((String) server.invoke(name, "dump", null, null)).startsWith("list.size "));
+    }
+}
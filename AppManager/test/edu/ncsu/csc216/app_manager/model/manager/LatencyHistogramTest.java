@@ -0,0 +1,44 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the LatencyHistogram class.
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketsCoverEveryLatency() {
+        for (long nanos : new long[] { 0, 1, 3, 4, 5, 7, 8, 1000, 123_456_789, Long.MAX_VALUE }) {
+            int bucket = LatencyHistogram.bucket(nanos);
+            assertTrue(LatencyHistogram.lowerBound(bucket) <= nanos, "" + nanos);
+            if (bucket + 1 < LatencyHistogram.bucket(Long.MAX_VALUE) + 1) {
+                assertTrue(LatencyHistogram.lowerBound(bucket + 1) > nanos, "" + nanos);
+            }
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L, i == 1 ? 2 : 1);
+        }
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(1001, snapshot.getCount());
+        assertEquals(1000, snapshot.getSamples());
+        assertEquals(500_500, snapshot.getMeanNanos(), 0.001);
+        assertEquals(1_000_000, snapshot.getMaxNanos());
+        assertEquals(500_000, snapshot.getP50Nanos(), 500_000 * 0.25);
+        assertEquals(990_000, snapshot.getP99Nanos(), 990_000 * 0.25);
+        assertTrue(snapshot.getP50Nanos() <= snapshot.getP90Nanos());
+        assertTrue(snapshot.getP90Nanos() <= snapshot.getP99Nanos());
+        assertTrue(snapshot.getP99Nanos() <= snapshot.getMaxNanos());
+
+        histogram.reset();
+        snapshot = histogram.snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getP99Nanos());
+    }
+}
@@ -0,0 +1,111 @@
+package edu.ncsu.csc216.app_manager.benchmark;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+import edu.ncsu.csc216.app_manager.model.manager.AppList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Times the AppList operations: bulk loading, lookup by id, delete and listing by
+ * type. Lookups and deletes cycle through a fixed sequence of random ids.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AppListBenchmark {
+
+    /** Number of ids in the lookup sequence; a power of two */
+    private static final int IDS = 1 << 16;
+
+    /** Number of applications in the list */
+    @Param({ "1000", "100000" })
+    private int size;
+
+    /** Applications in shuffled order, as addApps receives them from a parallel load */
+    private List<Application> shuffled;
+    /** List holding every application */
+    private AppList list;
+    /** Ids to look up or delete */
+    private int[] ids;
+    /** Position in ids */
+    private int next;
+
+    /**
+     * Builds the list and the id sequence.
+     */
+    @Setup
+    public void setUp() {
+        List<Application> apps = Datasets.applications(size);
+        shuffled = new ArrayList<>(apps);
+        Collections.shuffle(shuffled, new Random(Datasets.SEED));
+        list = new AppList();
+        list.addApps(apps);
+        ids = Datasets.randomIds(size, IDS);
+    }
+
+    /**
+     * Builds a new list from every application.
+     *
+     * @return The list.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public AppList addApps() {
+        AppList fresh = new AppList();
+        fresh.addApps(shuffled);
+        return fresh;
+    }
+
+    /**
+     * Looks up one application by id.
+     *
+     * @return The application.
+     */
+    @Benchmark
+    public Application getAppById() {
+        return list.getAppById(ids[next++ & (IDS - 1)]);
+    }
+
+    /**
+     * Deletes one application by id and adds it back, so the list keeps its size.
+     *
+     * @return The application deleted.
+     */
+    @Benchmark
+    public Application deleteAppById() {
+        Application app = list.getAppById(ids[next++ & (IDS - 1)]);
+        list.deleteAppById(app.getAppId());
+        list.addApps(Collections.singletonList(app));
+        return app;
+    }
+
+    /**
+     * Lists the applications of one type.
+     *
+     * @return The applications.
+     */
+    @Benchmark
+    public List<Application> getApplicationsByType() {
+        return list.getApplicationsByType(AppType.OLD);
+    }
+}
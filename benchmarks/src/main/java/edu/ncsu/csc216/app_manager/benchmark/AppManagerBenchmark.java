@@ -0,0 +1,97 @@
+package edu.ncsu.csc216.app_manager.benchmark;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.manager.AppList;
+import edu.ncsu.csc216.app_manager.model.manager.AppManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Times building the GUI table rows with AppManager.getAppListAsArray, and lookups
+ * through the manager with its metrics on and off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AppManagerBenchmark {
+
+    /** Number of ids in the lookup sequence; a power of two */
+    private static final int IDS = 1 << 16;
+
+    /** Number of applications managed */
+    @Param({ "1000", "100000" })
+    private int size;
+
+    /** Whether the manager's metrics are enabled */
+    @Param({ "true", "false" })
+    private boolean metrics;
+
+    /** How the list stores its applications */
+    @Param({ "OBJECTS", "COLUMNS" })
+    private AppList.Storage storage;
+
+    /** The manager, loaded in setup */
+    private AppManager manager;
+    /** Ids to look up */
+    private int[] ids;
+    /** Position in ids */
+    private int next;
+
+    /**
+     * Loads the applications into the manager through a saved file.
+     *
+     * @throws IOException if the temporary file cannot be created.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        File file = File.createTempFile("appmanager", ".txt");
+        try {
+            Datasets.writeFile(file.getPath(), size);
+            manager = AppManager.getInstance();
+            manager.createNewAppList(storage);
+            manager.loadAppsFromFile(file.getPath());
+            manager.getMetrics().setEnabled(metrics);
+            ids = Datasets.randomIds(size, IDS);
+        } finally {
+            file.delete();
+        }
+    }
+
+    /**
+     * Builds the rows for every application.
+     *
+     * @return The rows.
+     */
+    @Benchmark
+    public Object[][] getAppListAsArray() {
+        return manager.getAppListAsArray();
+    }
+
+    /**
+     * Looks up one application by id.
+     *
+     * @return The application.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Application getAppById() {
+        return manager.getAppById(ids[next++ & (IDS - 1)]);
+    }
+}
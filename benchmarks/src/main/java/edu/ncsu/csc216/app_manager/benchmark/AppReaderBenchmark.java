@@ -0,0 +1,70 @@
+package edu.ncsu.csc216.app_manager.benchmark;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.io.AppReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Times loading a saved application file with AppReader.readAppsFromFile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AppReaderBenchmark {
+
+    /** Number of applications in the file */
+    @Param({ "1000", "100000" })
+    private int size;
+
+    /** File written in setup */
+    private File file;
+
+    /**
+     * Writes the file to read.
+     *
+     * @throws IOException if the temporary file cannot be created.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        file = File.createTempFile("appreader", ".txt");
+        Datasets.writeFile(file.getPath(), size);
+    }
+
+    /**
+     * Deletes the file.
+     */
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    /**
+     * Reads every application in the file.
+     *
+     * @return The applications read.
+     */
+    @Benchmark
+    public List<Application> readAppsFromFile() {
+        return AppReader.readAppsFromFile(file.getPath());
+    }
+}
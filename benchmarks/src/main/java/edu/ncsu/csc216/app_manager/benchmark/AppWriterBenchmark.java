@@ -0,0 +1,79 @@
+package edu.ncsu.csc216.app_manager.benchmark;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.io.AppWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Times saving applications with AppWriter, plainly and through the atomic
+ * replace-by-rename path without fsync.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AppWriterBenchmark {
+
+    /** Number of applications written */
+    @Param({ "1000", "100000" })
+    private int size;
+
+    /** Applications to write */
+    private List<Application> apps;
+    /** File overwritten by each save */
+    private File file;
+
+    /**
+     * Builds the applications and the target file.
+     *
+     * @throws IOException if the temporary file cannot be created.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        apps = Datasets.applications(size);
+        file = File.createTempFile("appwriter", ".txt");
+    }
+
+    /**
+     * Deletes the file.
+     */
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    /**
+     * Saves the applications over the file.
+     */
+    @Benchmark
+    public void writeAppsToFile() {
+        AppWriter.writeAppsToFile(file.getPath(), apps);
+    }
+
+    /**
+     * Saves the applications to a temporary file renamed over the target.
+     */
+    @Benchmark
+    public void writeAppsToFileAtomically() {
+        AppWriter.writeAppsToFileAtomically(file.getPath(), apps, false, 0);
+    }
+}
@@ -0,0 +1,56 @@
+package edu.ncsu.csc216.app_manager.benchmark;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the heap retained per Application by creating a large number of them
+ * and comparing used heap before and after, with garbage collected each time.
+ * Summaries and notes are shared strings, so the figure is the overhead of the
+ * Application itself, its notes list and its states.
+ * It is not a JMH benchmark, as JMH measures time; run it on its own with:
+ * java -Xmx2g -cp benchmarks/target/benchmarks.jar edu.ncsu.csc216.app_manager.benchmark.ApplicationFootprintBenchmark [count]
+ */
+public class ApplicationFootprintBenchmark {
+
+    /**
+     * Runs the measurement.
+     *
+     * @param args Optional number of applications; defaults to 1M.
+     */
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        String summary = "Application summary";
+        String note = "Note";
+        List<Application> apps = new ArrayList<>(count);
+        long before = usedHeap();
+        for (int id = 1; id <= count; id++) {
+            apps.add(new Application(id, Application.AppType.NEW, summary, note));
+        }
+        long after = usedHeap();
+        long bytes = after - before - (long) count * 4;
+        System.out.printf("applications=%,d retained=%,d MB per application=%d bytes (%d)%n",
+                count, bytes >> 20, bytes / count, apps.size() % 10);
+    }
+
+    /**
+     * Collects garbage until used heap settles, then reports it.
+     *
+     * @return The used heap in bytes.
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            long now = runtime.totalMemory() - runtime.freeMemory();
+            if (now >= used) {
+                break;
+            }
+            used = now;
+        }
+        return used;
+    }
+}
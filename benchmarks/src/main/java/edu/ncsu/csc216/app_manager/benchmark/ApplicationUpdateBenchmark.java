@@ -0,0 +1,93 @@
+package edu.ncsu.csc216.app_manager.benchmark;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Times Application.update for every pair of state and command, including the
+ * pairs the FSM rejects. Each invocation applies the command to a batch of fresh
+ * applications in the state, so notes never pile up across invocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApplicationUpdateBenchmark {
+
+    /** Applications updated per invocation */
+    private static final int BATCH = 1000;
+
+    /** State the applications start in */
+    @Param({ Application.REVIEW_NAME, Application.INTERVIEW_NAME, Application.WAITLIST_NAME,
+        Application.REFCHK_NAME, Application.OFFER_NAME, Application.CLOSED_NAME })
+    private String state;
+
+    /** Command applied */
+    @Param({ "ACCEPT", "REJECT", "STANDBY", "REOPEN" })
+    private CommandValue commandValue;
+
+    /** The command, carrying every field any state may need */
+    private Command command;
+    /** Applications for the next invocation */
+    private Application[] apps;
+
+    /**
+     * Builds the command.
+     */
+    @Setup
+    public void setUp() {
+        command = new Command(commandValue, "reviewer", Resolution.REVCOMPLETED, "Benchmark note");
+        apps = new Application[BATCH];
+    }
+
+    /**
+     * Creates a fresh batch of applications in the state.
+     */
+    @Setup(Level.Invocation)
+    public void createApplications() {
+        for (int i = 0; i < BATCH; i++) {
+            apps[i] = new Application(i + 1, state, Application.A_OLD, "Summary", "reviewer", true,
+                    null, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Applies the command to each application in the batch.
+     *
+     * @param blackhole Consumes the outcome of each update.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void update(Blackhole blackhole) {
+        for (Application app : apps) {
+            try {
+                app.update(command);
+                blackhole.consume(app);
+            } catch (UnsupportedOperationException e) {
+                blackhole.consume(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package edu.ncsu.csc216.app_manager.benchmark;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.io.AppFileGenerator;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds the data the benchmarks run on with AppFileGenerator at its default mix
+ * of states, types and notes. The seed is fixed, so every run and every release
+ * measures the same data.
+ */
+final class Datasets {
+    /** Seed shared by all benchmarks */
+    static final long SEED = 42;
+
+    /**
+     * Not instantiated.
+     */
+    private Datasets() {
+    }
+
+    /**
+     * Builds applications with ids 1 to size in id order.
+     *
+     * @param size The number of applications.
+     * @return The applications.
+     */
+    static List<Application> applications(int size) {
+        return new AppFileGenerator(SEED).generate(size);
+    }
+
+    /**
+     * Writes applications with ids 1 to size to a file, the same as applications
+     * returns.
+     *
+     * @param filename The name of the file.
+     * @param size     The number of applications.
+     */
+    static void writeFile(String filename, int size) {
+        new AppFileGenerator(SEED).writeToFile(filename, size);
+    }
+
+    /**
+     * Picks ids to look up in a list of applications numbered 1 to size.
+     *
+     * @param size  The number of applications.
+     * @param count The number of ids to pick.
+     * @return The ids, in random order.
+     */
+    static int[] randomIds(int size, int count) {
+        Random random = new Random(SEED);
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = random.nextInt(size) + 1;
+        }
+        return ids;
+    }
+}